@@ -4,8 +4,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
 
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Abstract class for all Module Detectors.
@@ -18,11 +17,25 @@ abstract class AbstractModuleDetector {
     private final FileSystemFacade factory;
 
     /**
-     * Collects all projects of a specific type.
-     *  @param mapping the mapping of path prefixes to module names
-     * @param projects the projects of a specific type
+     * Returns the path prefix of all files that belong to the module of the specified project file.
+     *
+     * @param fileName
+     *         the absolute file name of a project file
+     *
+     * @return the path prefix, or an empty {@link Optional} if the file is not a project file of this detector
+     */
+    abstract Optional<String> getPrefix(String fileName);
+
+    /**
+     * Parses the specified project file to obtain the module name. This method will be called concurrently for
+     * different project files.
+     *
+     * @param fileName
+     *         the absolute file name of a project file of this detector
+     *
+     * @return the project name or an empty string if the name could not be resolved
      */
-    abstract void collectProjects(Map<String, String> mapping, List<String> projects);
+    abstract String parseModuleName(String fileName);
 
     /**
      * Returns the names of all project files in the following structure:
@@ -36,11 +49,25 @@ abstract class AbstractModuleDetector {
         factory = fileSystemFacade;
     }
 
-    void addMapping(final Map<String, String> mapping, final String fileName, final String suffix,
-            final String moduleName) {
-        if (StringUtils.isNotBlank(moduleName)) {
-            mapping.put(StringUtils.substringBeforeLast(fileName, suffix), moduleName);
+    /**
+     * Returns the time of the last modification of the specified project file and of all other files that are read
+     * when the module name is parsed.
+     *
+     * @param fileName
+     *         the absolute file name of a project file of this detector
+     *
+     * @return the time of the last modification, or 0 if the time is unknown
+     * @see FileSystemFacade#getLastModified(String)
+     */
+    long getLastModified(final String fileName) {
+        return factory.getLastModified(fileName);
+    }
+
+    Optional<String> getPrefix(final String fileName, final String suffix) {
+        if (fileName.endsWith(suffix)) {
+            return Optional.of(StringUtils.substringBeforeLast(fileName, suffix));
         }
+        return Optional.empty();
     }
 
     FileSystemFacade getFactory() {
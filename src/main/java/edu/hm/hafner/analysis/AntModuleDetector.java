@@ -2,8 +2,7 @@ package edu.hm.hafner.analysis;
 
 import java.io.IOException;
 import java.nio.file.InvalidPathException;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.xml.sax.SAXException;
@@ -26,12 +25,8 @@ class AntModuleDetector extends AbstractModuleDetector {
     }
 
     @Override
-    void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(ANT_PROJECT)) {
-                addMapping(mapping, fileName, ANT_PROJECT, parseBuildXml(fileName));
-            }
-        }
+    Optional<String> getPrefix(final String fileName) {
+        return getPrefix(fileName, ANT_PROJECT);
     }
 
     /**
@@ -42,7 +37,8 @@ class AntModuleDetector extends AbstractModuleDetector {
      *
      * @return the project name or an empty string if the name could not be resolved
      */
-    private String parseBuildXml(final String buildXml) {
+    @Override
+    String parseModuleName(final String buildXml) {
         try (var file = getFactory().open(buildXml)) {
             var digester = new SecureDigester(ModuleDetectorRunner.class);
 
@@ -0,0 +1,138 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.util.VisibleForTesting;
+
+/**
+ * Matches a string property against a set of regular expressions. The filter matches if at least one of the patterns
+ * can be found in the property value (see {@link java.util.regex.Matcher#find()}). All patterns are compiled only once
+ * when the filter is created: simple literals (e.g., {@code something}, {@code .*something.*}, or {@code ^something})
+ * are evaluated using plain string comparisons, all other patterns are merged into a single alternation that is
+ * evaluated in one pass over the value. Compiled filters are immutable and are cached by their set of patterns, so
+ * that filters that are built again and again for the same configuration can reuse the compiled automaton.
+ */
+final class CompiledPatternFilter implements Predicate<String> {
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final Map<List<String>, CompiledPatternFilter> CACHE
+            = Collections.synchronizedMap(new LruCache<>(MAX_CACHE_SIZE));
+
+    private static final String ANY = ".*";
+    private static final String START = "^";
+    private static final Pattern META_CHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+    private static final Pattern NOT_MERGEABLE = Pattern.compile("\\\\(?:[1-9]|k<|Q)|\\(\\?<[a-zA-Z]");
+
+    private final List<String> containedLiterals = new ArrayList<>();
+    private final List<String> prefixLiterals = new ArrayList<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    /**
+     * Returns a compiled filter for the specified patterns. If a filter for the same set of patterns has been compiled
+     * before, then the cached instance will be returned.
+     *
+     * @param patterns
+     *         the regular expressions to match
+     *
+     * @return the compiled filter
+     * @throws java.util.regex.PatternSyntaxException
+     *         if one of the patterns is not a valid regular expression
+     */
+    static CompiledPatternFilter compile(final Collection<String> patterns) {
+        var key = List.copyOf(patterns);
+        var cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        var filter = new CompiledPatternFilter(key);
+        CACHE.put(key, filter);
+        return filter;
+    }
+
+    @VisibleForTesting
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    @VisibleForTesting
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    private CompiledPatternFilter(final List<String> expressions) {
+        List<String> mergeable = new ArrayList<>();
+        for (String expression : expressions) {
+            var compiled = Pattern.compile(expression, Pattern.DOTALL); // validates every single pattern
+            if (isLiteral(stripAny(expression))) {
+                containedLiterals.add(stripAny(expression));
+            }
+            else if (expression.startsWith(START) && isLiteral(stripAnySuffix(expression.substring(1)))) {
+                prefixLiterals.add(stripAnySuffix(expression.substring(1)));
+            }
+            else if (NOT_MERGEABLE.matcher(expression).find()) {
+                patterns.add(compiled); // groups or quotes would break the alternation
+            }
+            else {
+                mergeable.add(expression);
+            }
+        }
+        if (mergeable.size() == 1) {
+            patterns.add(Pattern.compile(mergeable.get(0), Pattern.DOTALL));
+        }
+        else if (mergeable.size() > 1) {
+            patterns.add(Pattern.compile(mergeable.stream()
+                    .map(expression -> "(?:" + expression + ")")
+                    .collect(Collectors.joining("|")), Pattern.DOTALL));
+        }
+    }
+
+    private static String stripAny(final String expression) {
+        var stripped = stripAnySuffix(expression);
+        if (stripped.startsWith(ANY)) {
+            return stripped.substring(ANY.length());
+        }
+        return stripped;
+    }
+
+    private static String stripAnySuffix(final String expression) {
+        if (expression.endsWith(ANY)) {
+            return expression.substring(0, expression.length() - ANY.length());
+        }
+        return expression;
+    }
+
+    private static boolean isLiteral(final String expression) {
+        return !META_CHARACTERS.matcher(expression).find();
+    }
+
+    @VisibleForTesting
+    int getNumberOfAutomatons() {
+        return patterns.size();
+    }
+
+    @Override
+    public boolean test(final String value) {
+        for (String literal : containedLiterals) {
+            if (value.contains(literal)) {
+                return true;
+            }
+        }
+        for (String prefix : prefixLiterals) {
+            if (value.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
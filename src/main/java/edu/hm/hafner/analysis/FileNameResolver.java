@@ -77,6 +77,7 @@ public class FileNameResolver {
                     .forEach(issue -> issue.setFileName(sourceDirectoryPrefix,
                             builder.internFileName(pathMapping.get(issue.getFileName()))));
         }
+        report.markIssuesAsModified();
         report.logInfo("-> resolved paths in source directory (%d found, %d not found)",
                 pathMapping.size(), filesToProcess.size() - pathMapping.size());
     }
@@ -110,6 +111,7 @@ public class FileNameResolver {
                             issue.setFileName(issue.getPath(), builder.internFileName(remappedPath));
                         });
             }
+            report.markIssuesAsModified();
         }
 
         return report.getFiles()
@@ -5,19 +5,28 @@ import org.apache.commons.io.input.BOMInputStream;
 import com.google.errorprone.annotations.MustBeClosed;
 
 import edu.hm.hafner.util.SecureXmlParserFactory;
+import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Provides a {@link ReaderFactory} that returns readers for a given file.
@@ -25,6 +34,11 @@ import java.nio.file.Path;
  * @author Ullrich Hafner
  */
 public class FileReaderFactory extends ReaderFactory {
+    private static final long MINIMUM_CHUNK_SIZE = 1024 * 1024;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
     private final Path file;
     private final String fileName;
     @CheckForNull
@@ -110,4 +124,169 @@ public class FileReaderFactory extends ReaderFactory {
         }
         return charset;
     }
+
+    /**
+     * Splits the file into chunks of complete lines. The file is split at line breaks near the byte offsets that
+     * divide the file into chunks of the same size. The file will not be split if it is too small or if the charset
+     * does not encode a line break as a single byte.
+     *
+     * @param maximumNumberOfChunks
+     *         the maximum number of chunks to create
+     *
+     * @return the chunks, in the order of the file
+     */
+    @Override
+    public List<ReaderFactory> split(final int maximumNumberOfChunks) {
+        return split(maximumNumberOfChunks, MINIMUM_CHUNK_SIZE);
+    }
+
+    @VisibleForTesting
+    List<ReaderFactory> split(final int maximumNumberOfChunks, final long minimumChunkSize) {
+        try {
+            if (isCharsetUndetected && charset == null) {
+                charset = detectCharset(Files.newInputStream(file));
+            }
+            long size = Files.size(file);
+            int numberOfChunks = (int) Math.min(maximumNumberOfChunks, size / minimumChunkSize);
+            if (numberOfChunks < 2 || !hasSingleByteLineBreaks(getCharset())) {
+                return List.of(this);
+            }
+
+            List<ReaderFactory> chunks = new ArrayList<>();
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long start = 0;
+                for (int i = 1; i < numberOfChunks && start < size; i++) {
+                    long end = findStartOfNextLine(channel, Math.max(start, size * i / numberOfChunks));
+                    if (end > start && end < size) {
+                        chunks.add(new FileChunk(this, start, end));
+                        start = end;
+                    }
+                }
+                chunks.add(new FileChunk(this, start, size));
+            }
+            return chunks;
+        }
+        catch (IOException | InvalidPathException exception) {
+            return List.of(this); // reading the file will report the problem
+        }
+    }
+
+    private static boolean hasSingleByteLineBreaks(final Charset encoding) {
+        return encoding.canEncode()
+                && Arrays.equals("\n".getBytes(encoding), new byte[] {LINE_FEED})
+                && Arrays.equals("\r".getBytes(encoding), new byte[] {CARRIAGE_RETURN});
+    }
+
+    private static long findStartOfNextLine(final FileChannel channel, final long position) throws IOException {
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = position;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                return offset;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LINE_FEED) {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * A chunk of complete lines of a file, given by a range of bytes.
+     */
+    private static final class FileChunk extends ReaderFactory {
+        private final FileReaderFactory parent;
+        private final long start;
+        private final long end;
+
+        FileChunk(final FileReaderFactory parent, final long start, final long end) {
+            super(parent);
+
+            this.parent = parent;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String getFileName() {
+            return parent.getFileName();
+        }
+
+        @Override
+        public Charset getCharset() {
+            return parent.getCharset();
+        }
+
+        @SuppressWarnings("PMD.CloseResource")
+        @Override @MustBeClosed
+        public Reader create() {
+            try {
+                var channel = FileChannel.open(parent.file, StandardOpenOption.READ).position(start);
+                InputStream inputStream = new RangeInputStream(Channels.newInputStream(channel), end - start);
+                if (start == 0) {
+                    inputStream = BOMInputStream.builder().setInputStream(inputStream).get();
+                }
+                return new InputStreamReader(inputStream, getCharset());
+            }
+            catch (FileNotFoundException | InvalidPathException exception) {
+                throw new ParsingException(exception, "Can't find file '%s'", getFileName());
+            }
+            catch (IOException | UncheckedIOException exception) {
+                throw new ParsingException(exception, "Can't open file '%s'", getFileName());
+            }
+        }
+    }
+
+    /**
+     * An input stream that reads at most the specified number of bytes from the underlying stream.
+     */
+    private static final class RangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        RangeInputStream(final InputStream in, final long length) {
+            super(in);
+
+            remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read();
+            if (read >= 0) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
 }
@@ -0,0 +1,305 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.VisibleForTesting;
+
+/**
+ * A persistent cache of fingerprints that is stored in a compact file (e.g., in the build directory). The fingerprints
+ * of a source file are cached together and are identified by the absolute path of the file, its size, its last
+ * modification time, the number of lines the fingerprinting algorithm looks ahead, and the charset of the file. Since
+ * the file size and modification time are obtained from the file attributes, a cache hit does not need to open the
+ * source file at all. If the maximum number of cached files has been reached, then the least recently used files will
+ * be evicted.
+ *
+ * <p>
+ * The cache is thread-safe, so it can be used by the parallel mode of the {@link FingerprintGenerator}.
+ * </p>
+ */
+public class FingerprintCache {
+    private static final int MAGIC_NUMBER = 0x46505243; // "FPRC"
+    private static final int VERSION = 1;
+    private static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+    private final Path cacheFile;
+    private final Map<String, CachedFile> fingerprintsByFile;
+
+    private boolean isLoaded;
+    private boolean isModified;
+    private int hits;
+    private int misses;
+
+    /**
+     * Creates a new {@link FingerprintCache} that is stored in the specified file. The cache stores the fingerprints of
+     * at most 50,000 source files.
+     *
+     * @param cacheFile
+     *         the file to store the cache in
+     */
+    public FingerprintCache(final Path cacheFile) {
+        this(cacheFile, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new {@link FingerprintCache} that is stored in the specified file.
+     *
+     * @param cacheFile
+     *         the file to store the cache in
+     * @param maximumSize
+     *         the maximum number of source files whose fingerprints are cached
+     */
+    public FingerprintCache(final Path cacheFile, final int maximumSize) {
+        Ensure.that(maximumSize > 0).isTrue("Maximum size must be positive: %d", maximumSize);
+
+        this.cacheFile = cacheFile;
+        fingerprintsByFile = new LruCache<>(maximumSize);
+    }
+
+    /**
+     * Loads the cached fingerprints from the cache file. The file is read only once, subsequent calls do nothing. If
+     * the cache file does not exist yet, then the cache remains empty.
+     *
+     * @throws IOException
+     *         if the cache file could not be read
+     */
+    public synchronized void load() throws IOException {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+
+        if (Files.isRegularFile(cacheFile)) {
+            try (var input = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(cacheFile))))) {
+                read(input);
+            }
+        }
+    }
+
+    private void read(final DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC_NUMBER || input.readInt() != VERSION) {
+            return; // an unknown or outdated format will be replaced when the cache is saved
+        }
+        int files = input.readInt();
+        for (int i = 0; i < files; i++) {
+            var key = new FileKey(input.readUTF(), input.readLong(), input.readLong(), input.readInt(),
+                    input.readUTF());
+            int lines = input.readInt();
+            var cachedFile = new CachedFile(key);
+            for (int j = 0; j < lines; j++) {
+                cachedFile.fingerprints.put(input.readInt(), input.readUTF());
+            }
+            fingerprintsByFile.put(key.fileName, cachedFile);
+        }
+    }
+
+    /**
+     * Saves the cached fingerprints to the cache file if the cache has been modified since it has been loaded. The
+     * file is replaced atomically, if supported by the file system.
+     *
+     * @throws IOException
+     *         if the cache file could not be written
+     */
+    public synchronized void save() throws IOException {
+        if (!isModified) {
+            return;
+        }
+
+        var parent = cacheFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var temporaryFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+        try (var output = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+            write(output);
+        }
+        Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        isModified = false;
+    }
+
+    private void write(final DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(VERSION);
+        output.writeInt(fingerprintsByFile.size());
+        for (CachedFile cachedFile : fingerprintsByFile.values()) {
+            var key = cachedFile.key;
+            output.writeUTF(key.fileName);
+            output.writeLong(key.size);
+            output.writeLong(key.lastModified);
+            output.writeInt(key.linesLookAhead);
+            output.writeUTF(key.charset);
+            output.writeInt(cachedFile.fingerprints.size());
+            for (Map.Entry<Integer, String> fingerprint : cachedFile.fingerprints.entrySet()) {
+                output.writeInt(fingerprint.getKey());
+                output.writeUTF(fingerprint.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the cached fingerprints of the specified lines of a source file. The cache is hit only if the
+     * fingerprints of all requested lines are available.
+     *
+     * @param key
+     *         the key of the source file
+     * @param lines
+     *         the lines to get the fingerprints for
+     *
+     * @return a mapping of line to fingerprint, or an empty result if at least one of the lines is not cached
+     */
+    synchronized Optional<Map<Integer, String>> get(final FileKey key, final Collection<Integer> lines) {
+        var cachedFile = fingerprintsByFile.get(key.fileName);
+        if (cachedFile != null && cachedFile.key.equals(key) && cachedFile.fingerprints.keySet().containsAll(lines)) {
+            hits += lines.size();
+            return Optional.of(Map.copyOf(cachedFile.fingerprints));
+        }
+        misses += lines.size();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the fingerprints of the specified source file in this cache. Fingerprints of a previous version of the
+     * file will be replaced.
+     *
+     * @param key
+     *         the key of the source file
+     * @param fingerprints
+     *         a mapping of line to fingerprint
+     */
+    synchronized void put(final FileKey key, final Map<Integer, String> fingerprints) {
+        var cachedFile = fingerprintsByFile.get(key.fileName);
+        if (cachedFile == null || !cachedFile.key.equals(key)) {
+            cachedFile = new CachedFile(key);
+            fingerprintsByFile.put(key.fileName, cachedFile);
+        }
+        cachedFile.fingerprints.putAll(fingerprints);
+        isModified = true;
+    }
+
+    /**
+     * Creates the key of the specified source file. The key is created from the file attributes, the file will not be
+     * opened.
+     *
+     * @param fileName
+     *         the absolute path of the source file
+     * @param linesLookAhead
+     *         the number of lines before and after the affected line that are part of a fingerprint
+     * @param charset
+     *         the encoding of the source file
+     *
+     * @return the key, or an empty result if the file attributes could not be read
+     */
+    static Optional<FileKey> createKey(final String fileName, final int linesLookAhead, final Charset charset) {
+        try {
+            var path = Path.of(fileName);
+            return Optional.of(new FileKey(fileName, Files.size(path), Files.getLastModifiedTime(path).toMillis(),
+                    linesLookAhead, charset.name()));
+        }
+        catch (IOException | InvalidPathException exception) {
+            return Optional.empty(); // the fingerprint generator will report the problem when reading the file
+        }
+    }
+
+    /**
+     * Returns the number of fingerprints that have been served from this cache.
+     *
+     * @return the number of hits
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of fingerprints that were requested but not found in this cache.
+     *
+     * @return the number of misses
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of source files whose fingerprints are cached.
+     *
+     * @return the number of cached files
+     */
+    public synchronized int size() {
+        return fingerprintsByFile.size();
+    }
+
+    @VisibleForTesting
+    synchronized boolean contains(final String fileName) {
+        return fingerprintsByFile.containsKey(fileName);
+    }
+
+    /**
+     * The cached fingerprints of a source file.
+     */
+    private static final class CachedFile {
+        private final FileKey key;
+        private final Map<Integer, String> fingerprints = new HashMap<>();
+
+        CachedFile(final FileKey key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Identifies the content of a source file.
+     */
+    static final class FileKey {
+        private final String fileName;
+        private final long size;
+        private final long lastModified;
+        private final int linesLookAhead;
+        private final String charset;
+
+        FileKey(final String fileName, final long size, final long lastModified, final int linesLookAhead,
+                final String charset) {
+            this.fileName = fileName;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.linesLookAhead = linesLookAhead;
+            this.charset = charset;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var fileKey = (FileKey) o;
+            return size == fileKey.size
+                    && lastModified == fileKey.lastModified
+                    && linesLookAhead == fileKey.linesLookAhead
+                    && fileName.equals(fileKey.fileName)
+                    && charset.equals(fileKey.charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, size, lastModified, linesLookAhead, charset);
+        }
+    }
+}
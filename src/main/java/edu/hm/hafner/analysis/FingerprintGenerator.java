@@ -7,15 +7,28 @@ import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Creates fingerprints for a set of issues.
@@ -26,6 +39,81 @@ public class FingerprintGenerator {
     private static final Set<String> NON_SOURCE_CODE_EXTENSIONS = Set.of(
             "o", "exe", "dll", "so", "a", "lib", "jar", "war", "zip", "7z", "gz", "bz2");
 
+    private boolean batchMode;
+    private int parallelism = 1;
+    @CheckForNull
+    private FingerprintCache cache;
+
+    /**
+     * Enables or disables the batch mode. In batch mode all issues of the same file are fingerprinted together: each
+     * affected file is read only once, and the contexts of all issues are extracted in a single forward pass.
+     * Otherwise, the affected file is read for each issue.
+     *
+     * @param batchMode
+     *         determines whether the issues should be grouped by their affected files
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public FingerprintGenerator setBatchMode(final boolean batchMode) {
+        this.batchMode = batchMode;
+
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads that compute the fingerprints. If the parallelism is greater than one, then the
+     * issues are partitioned by their affected files (see {@link #setBatchMode(boolean)}), and the files are processed
+     * concurrently by the workers. Each worker uses its own copy of the fingerprinting algorithm. The error messages
+     * of the workers are merged in the order of the affected files, so the resulting report does not depend on the
+     * scheduling of the workers.
+     *
+     * @param parallelism
+     *         the number of worker threads, use 1 to compute the fingerprints in the calling thread
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public FingerprintGenerator setParallelism(final int parallelism) {
+        Ensure.that(parallelism > 0).isTrue("Parallelism must be positive: %d", parallelism);
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * Enables or disables the parallel mode. In parallel mode, the fingerprints are computed using one worker thread
+     * for each available processor.
+     *
+     * @param parallelMode
+     *         determines whether the fingerprints should be computed in parallel
+     *
+     * @return this
+     * @see #setParallelism(int)
+     */
+    @CanIgnoreReturnValue
+    public FingerprintGenerator setParallelMode(final boolean parallelMode) {
+        return setParallelism(parallelMode ? Runtime.getRuntime().availableProcessors() : 1);
+    }
+
+    /**
+     * Sets the persistent cache that should be consulted before a source file is read. If a cache is set, then the
+     * issues are processed in batch mode (see {@link #setBatchMode(boolean)}). The cache will be loaded before and
+     * saved after the fingerprints are created.
+     *
+     * @param cache
+     *         the cache to use
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public FingerprintGenerator setCache(final FingerprintCache cache) {
+        this.cache = cache;
+
+        return this;
+    }
+
     /**
      * Creates fingerprints for the specified set of issues.
      *
@@ -38,19 +126,156 @@ public class FingerprintGenerator {
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
         var log = new FilteredLog("Can't create fingerprints for some files:");
-        int sum = 0;
+        var fingerprintCache = cache;
+        if (fingerprintCache != null) {
+            loadCache(fingerprintCache, report);
+        }
+        int hits = fingerprintCache == null ? 0 : fingerprintCache.getHits();
+        int misses = fingerprintCache == null ? 0 : fingerprintCache.getMisses();
+
+        int sum;
+        if (parallelism > 1) {
+            sum = computeFingerprintsInParallel(algorithm, groupIssuesByFile(report), charset, log);
+        }
+        else if (batchMode || fingerprintCache != null) {
+            sum = computeFingerprintsOfFiles(algorithm, groupIssuesByFile(report), charset, log);
+        }
+        else {
+            sum = 0;
+            for (Issue issue : report) {
+                if (!issue.hasFingerprint()) {
+                    if (hasAllowedExtension(issue.getFileName())) {
+                        sum += computeFingerprint(issue, algorithm, charset, log);
+                    }
+                    else {
+                        issue.setFingerprint(createDefaultFingerprint(issue));
+                    }
+                }
+            }
+        }
+        report.mergeLogMessages(log);
+        report.logInfo("-> created fingerprints for %d issues (skipped %d issues)", sum, report.size() - sum);
+        if (fingerprintCache != null) {
+            report.logInfo("-> fingerprint cache: %d hits, %d misses",
+                    fingerprintCache.getHits() - hits, fingerprintCache.getMisses() - misses);
+            saveCache(fingerprintCache, report);
+        }
+    }
+
+    private void loadCache(final FingerprintCache fingerprintCache, final Report report) {
+        try {
+            fingerprintCache.load();
+        }
+        catch (IOException exception) {
+            report.logException(exception, "Can't read fingerprint cache, fingerprints will be created from scratch");
+        }
+    }
+
+    private void saveCache(final FingerprintCache fingerprintCache, final Report report) {
+        try {
+            fingerprintCache.save();
+        }
+        catch (IOException exception) {
+            report.logException(exception, "Can't write fingerprint cache");
+        }
+    }
+
+    private Map<String, List<Issue>> groupIssuesByFile(final Report report) {
+        Map<String, List<Issue>> issuesByFile = new LinkedHashMap<>();
         for (Issue issue : report) {
             if (!issue.hasFingerprint()) {
-                if (hasAllowedExtension(issue.getFileName())) {
-                    sum += computeFingerprint(issue, algorithm, charset, log);
+                if (hasAllowedExtension(issue.getFileName()) && issue.hasFileName()) {
+                    issuesByFile.computeIfAbsent(issue.getAbsolutePath(), k -> new ArrayList<>()).add(issue);
                 }
                 else {
                     issue.setFingerprint(createDefaultFingerprint(issue));
                 }
             }
         }
-        report.mergeLogMessages(log);
-        report.logInfo("-> created fingerprints for %d issues (skipped %d issues)", sum, report.size() - sum);
+        return issuesByFile;
+    }
+
+    private int computeFingerprintsOfFiles(final FullTextFingerprint algorithm,
+            final Map<String, List<Issue>> issuesByFile, final Charset charset, final FilteredLog log) {
+        int sum = 0;
+        for (Map.Entry<String, List<Issue>> file : issuesByFile.entrySet()) {
+            sum += logResult(computeFingerprints(file.getKey(), file.getValue(), algorithm, charset), log);
+        }
+        return sum;
+    }
+
+    private int computeFingerprintsInParallel(final FullTextFingerprint algorithm,
+            final Map<String, List<Issue>> issuesByFile, final Charset charset, final FilteredLog log) {
+        var workerAlgorithm = ThreadLocal.withInitial(algorithm::copy);
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(issuesByFile.size(), 1)));
+        try {
+            List<Future<FileResult>> results = new ArrayList<>();
+            for (Map.Entry<String, List<Issue>> file : issuesByFile.entrySet()) {
+                results.add(executor.submit(() -> computeFingerprints(file.getKey(), file.getValue(),
+                        workerAlgorithm.get(), charset)));
+            }
+            int sum = 0;
+            for (Future<FileResult> result : results) {
+                sum += logResult(result.get(), log);
+            }
+            return sum;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Can't compute fingerprints", exception.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int logResult(final FileResult result, final FilteredLog log) {
+        result.getError().ifPresent(error -> log.logError("%s", error));
+
+        return result.getSize();
+    }
+
+    private FileResult computeFingerprints(final String absolutePath, final List<Issue> issues,
+            final FullTextFingerprint algorithm, final Charset charset) {
+        String error;
+        try {
+            var lines = issues.stream().map(Issue::getLineStart).collect(Collectors.toSet());
+            var digests = computeDigests(absolutePath, lines, algorithm, charset);
+            issues.forEach(issue -> issue.setFingerprint(digests.get(issue.getLineStart())));
+            return new FileResult(issues.size());
+        }
+        catch (FileNotFoundException | NoSuchFileException exception) {
+            error = "- '%s' file not found".formatted(absolutePath);
+        }
+        catch (IOException | InvalidPathException | UncheckedIOException exception) {
+            error = describeException(absolutePath, charset, exception);
+        }
+        issues.forEach(issue -> issue.setFingerprint(createDefaultFingerprint(issue)));
+        return new FileResult(error);
+    }
+
+    private Map<Integer, String> computeDigests(final String absolutePath, final Set<Integer> lines,
+            final FullTextFingerprint algorithm, final Charset charset) throws IOException {
+        var fingerprintCache = cache;
+        if (fingerprintCache == null) {
+            return algorithm.compute(absolutePath, lines, charset);
+        }
+
+        var key = FingerprintCache.createKey(absolutePath, algorithm.getLinesLookAhead(), charset);
+        if (key.isEmpty()) {
+            return algorithm.compute(absolutePath, lines, charset);
+        }
+        var cached = fingerprintCache.get(key.get(), lines);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        var digests = algorithm.compute(absolutePath, lines, charset);
+        fingerprintCache.put(key.get(), digests);
+        return digests;
     }
 
     private boolean hasAllowedExtension(final String fileName) {
@@ -76,17 +301,19 @@ public class FingerprintGenerator {
             log.logError("- '%s' file not found", absolutePath);
         }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
-            if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
-            }
-            else {
-                log.logError("- '%s', IO exception has been thrown: %s", absolutePath, exception);
-            }
+            log.logError("%s", describeException(absolutePath, charset, exception));
         }
         issue.setFingerprint(createDefaultFingerprint(issue));
         return 0;
     }
 
+    private String describeException(final String absolutePath, final Charset charset, final Exception exception) {
+        if (exception.getCause() instanceof MalformedInputException) {
+            return "- '%s', provided encoding '%s' seems to be wrong".formatted(absolutePath, charset);
+        }
+        return "- '%s', IO exception has been thrown: %s".formatted(absolutePath, exception);
+    }
+
     @VisibleForTesting
     static String createDefaultFingerprint(final Issue issue) {
         var builder = new HashCodeBuilder();
@@ -98,4 +325,31 @@ public class FingerprintGenerator {
                         .append(issue.getOrigin())
                         .append(issue.getLineStart()).build());
     }
+
+    /**
+     * The result of fingerprinting the issues of a single file.
+     */
+    private static final class FileResult {
+        private final int size;
+        @CheckForNull
+        private final String error;
+
+        FileResult(final int size) {
+            this.size = size;
+            this.error = null;
+        }
+
+        FileResult(final String error) {
+            this.size = 0;
+            this.error = error;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        Optional<String> getError() {
+            return Optional.ofNullable(error);
+        }
+    }
 }
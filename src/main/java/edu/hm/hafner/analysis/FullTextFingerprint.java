@@ -14,8 +14,17 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 /**
@@ -65,6 +74,20 @@ public class FullTextFingerprint {
         }
     }
 
+    int getLinesLookAhead() {
+        return linesLookAhead;
+    }
+
+    /**
+     * Creates a copy of this algorithm that uses the same configuration but its own message digest. Since a digest is
+     * not thread-safe, every thread that computes fingerprints needs to use its own copy.
+     *
+     * @return a copy of this algorithm
+     */
+    public FullTextFingerprint copy() {
+        return new FullTextFingerprint(linesLookAhead, fileSystem);
+    }
+
     /**
      * Creates a fingerprint of the specified issue using the source code at the affected line. The fingerprint is
      * computed using the 1:1 content of a small number of lines before and after the affected line (see {@link
@@ -88,6 +111,40 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates the fingerprints of several issues in the same file. In contrast to {@link #compute(String, int, Charset)}
+     * the affected file is read only once: the contexts of all affected lines are extracted in a single forward pass
+     * over the lines of the file.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return a mapping of affected line to the fingerprint of the selected range of source code lines
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines,
+            final Charset charset) throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            return createFingerprints(lines, content, charset);
+        }
+    }
+
+    @VisibleForTesting
+    Map<Integer, String> createFingerprints(final Collection<Integer> lines, final Stream<String> content,
+            final Charset charset) {
+        var contexts = extractContexts(lines, content.iterator());
+        content.close();
+
+        Map<Integer, String> fingerprints = new HashMap<>();
+        contexts.forEach((line, context) -> fingerprints.put(line, createFingerprint(context, charset)));
+        return fingerprints;
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format(Locale.ENGLISH, "%x", fileName.hashCode());
@@ -97,6 +154,11 @@ public class FullTextFingerprint {
     String createFingerprint(final int line, final Stream<String> lines, final Charset charset) {
         var context = extractContext(line, lines.iterator());
         lines.close();
+
+        return createFingerprint(context, charset);
+    }
+
+    private String createFingerprint(final String context, final Charset charset) {
         digest.update(context.getBytes(charset));
 
         return asHex(digest.digest()).toUpperCase(Locale.ENGLISH);
@@ -132,6 +194,60 @@ public class FullTextFingerprint {
         return context.toString();
     }
 
+    /**
+     * Extracts the contexts of all affected lines in a single pass. The lines are visited in the order of their
+     * context windows, so only the lines of the current window need to be buffered.
+     *
+     * @param affectedLines
+     *         the affected lines
+     * @param lines
+     *         the lines of the file
+     *
+     * @return a mapping of affected line to the extracted context
+     */
+    @VisibleForTesting
+    Map<Integer, String> extractContexts(final Collection<Integer> affectedLines, final Iterator<String> lines) {
+        Map<Integer, String> contexts = new HashMap<>();
+        NavigableMap<Integer, List<Integer>> affectedLinesByStart = new TreeMap<>();
+        for (int affectedLine : affectedLines) {
+            if (affectedLine < 0) {
+                contexts.put(affectedLine, StringUtils.EMPTY);
+            }
+            else {
+                affectedLinesByStart.computeIfAbsent(computeStartLine(affectedLine), k -> new ArrayList<>())
+                        .add(affectedLine);
+            }
+        }
+
+        Deque<String> window = new ArrayDeque<>();
+        int firstLineOfWindow = 1;
+        int line = 0;
+        for (Map.Entry<Integer, List<Integer>> entry : affectedLinesByStart.entrySet()) {
+            int first = entry.getKey() - linesLookAhead;
+            int last = entry.getKey() + linesLookAhead;
+            for (; !window.isEmpty() && firstLineOfWindow < first; firstLineOfWindow++) {
+                window.removeFirst(); // the windows are sorted, so these lines are not required anymore
+            }
+            while (lines.hasNext() && line < last) {
+                line++;
+                var content = lines.next();
+                if (line >= first) {
+                    if (window.isEmpty()) {
+                        firstLineOfWindow = line;
+                    }
+                    window.addLast(content);
+                }
+            }
+            var context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
+            window.forEach(context::append);
+            for (int affectedLine : entry.getValue()) {
+                contexts.put(affectedLine, context.toString());
+            }
+        }
+
+        return contexts;
+    }
+
     private int computeStartLine(final int affectedLine) {
         if (affectedLine == 0) { // indicates the whole file
             return linesLookAhead + 1;
@@ -8,8 +8,7 @@ import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.InvalidPathException;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Scanner;
 import java.util.regex.Pattern;
 
@@ -39,15 +38,30 @@ class GradleModuleDetector extends AbstractModuleDetector {
     }
 
     @Override
-    void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(BUILD_GRADLE) || fileName.endsWith(BUILD_GRADLE_KTS)) {
-                addMapping(mapping, fileName, BUILD_GRADLE, parseGradle(fileName));
-            }
-            else if (fileName.endsWith(SETTINGS_GRADLE) || fileName.endsWith(SETTINGS_GRADLE_KTS)) {
-                addMapping(mapping, fileName, SETTINGS_GRADLE, parseGradleSettings(fileName));
-            }
+    Optional<String> getPrefix(final String fileName) {
+        if (isBuildScript(fileName)) {
+            return Optional.of(StringUtils.substringBeforeLast(fileName, BUILD_GRADLE));
+        }
+        else if (isSettingsFile(fileName)) {
+            return Optional.of(StringUtils.substringBeforeLast(fileName, SETTINGS_GRADLE));
         }
+        return Optional.empty();
+    }
+
+    @Override
+    String parseModuleName(final String fileName) {
+        if (isBuildScript(fileName)) {
+            return parseGradle(fileName);
+        }
+        return parseGradleSettings(fileName);
+    }
+
+    private boolean isBuildScript(final String fileName) {
+        return fileName.endsWith(BUILD_GRADLE) || fileName.endsWith(BUILD_GRADLE_KTS);
+    }
+
+    private boolean isSettingsFile(final String fileName) {
+        return fileName.endsWith(SETTINGS_GRADLE) || fileName.endsWith(SETTINGS_GRADLE_KTS);
     }
 
     /**
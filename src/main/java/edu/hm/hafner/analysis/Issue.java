@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -35,6 +36,8 @@ public class Issue implements Serializable {
     private static final long serialVersionUID = 14L; // release 14.0.0
 
     private static final PathUtil PATH_UTIL = new PathUtil();
+    /** Counts the modifications of the mutable properties of all issues, see {@link #getModificationCount()}. */
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
 
     static final String UNDEFINED = "-";
 
@@ -70,6 +73,17 @@ public class Issue implements Serializable {
         return issue -> getPropertyValueAsString(issue, propertyName);
     }
 
+    /**
+     * Returns the number of modifications of the mutable properties (file name, package name, module name, and
+     * origin) of all issues since the start of the JVM. Aggregated values of these properties that have been computed
+     * for a given modification count are still valid as long as this count does not change.
+     *
+     * @return the number of modifications
+     */
+    static long getModificationCount() {
+        return MODIFICATIONS.get();
+    }
+
     /**
      * Returns a predicate that checks if the package name of an issue is equal to the specified package name.
      *
@@ -430,6 +444,7 @@ public class Issue implements Serializable {
      */
     @SuppressWarnings("checkstyle:HiddenField")
     void setFileName(final String pathName, final TreeString fileName) {
+        MODIFICATIONS.incrementAndGet();
         this.pathName = normalizeFileName(pathName);
         var oldFileName = getFileNameTreeString();
         var changedLocations = locations.stream()
@@ -650,6 +665,7 @@ public class Issue implements Serializable {
      *         the name of the package
      */
     void setPackageName(final TreeString packageName) {
+        MODIFICATIONS.incrementAndGet();
         this.packageName = packageName;
     }
 
@@ -679,6 +695,7 @@ public class Issue implements Serializable {
      *         the module name to set
      */
     void setModuleName(@CheckForNull final String moduleName) {
+        MODIFICATIONS.incrementAndGet();
         this.moduleName = stripToEmpty(moduleName);
     }
 
@@ -723,6 +740,7 @@ public class Issue implements Serializable {
     void setOrigin(final String origin) {
         Ensure.that(origin).isNotBlank("Issue origin ID '%s' must be not blank (%s)", id, toString());
 
+        MODIFICATIONS.incrementAndGet();
         this.origin = origin.intern();
     }
 
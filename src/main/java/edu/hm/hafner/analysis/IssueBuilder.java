@@ -18,6 +18,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static edu.hm.hafner.analysis.util.IntegerParser.*;
 
@@ -88,10 +90,13 @@ public class IssueBuilder implements AutoCloseable {
     @CheckForNull
     private Serializable additionalProperties;
 
-    private UUID id = UUID.randomUUID();
+    @CheckForNull
+    private UUID id;
+    private IdStrategy idStrategy = IdStrategy.SECURE_RANDOM;
 
     /**
-     * Sets the unique ID of the issue. If not set, then an ID will be generated.
+     * Sets the unique ID of the issue. If not set, then an ID will be generated using the selected
+     * {@link IdStrategy}.
      *
      * @param id
      *         the ID
@@ -104,6 +109,21 @@ public class IssueBuilder implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Sets the strategy that creates the IDs of issues that have no explicit ID set. The selected strategy will be
+     * used for all subsequently built issues, it will not be reset when cleaning the builder.
+     *
+     * @param idStrategy
+     *         the strategy to create IDs
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public IssueBuilder setIdStrategy(final IdStrategy idStrategy) {
+        this.idStrategy = idStrategy;
+        return this;
+    }
+
     /**
      * Sets additional properties from the statical analysis tool. This object could be used to store tool-specific
      * information.
@@ -685,9 +705,10 @@ public class IssueBuilder implements AutoCloseable {
      *
      * @return the created issue
      */
+    @SuppressWarnings("PMD.NullAssignment")
     public Issue build() {
         var issue = buildWithConstructor();
-        id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
+        id = null; // make sure that multiple invocations will create different IDs
         return issue;
     }
 
@@ -727,7 +748,7 @@ public class IssueBuilder implements AutoCloseable {
                 stripToEmpty(reference),
                 defaultString(fingerprint),
                 additionalProperties,
-                id);
+                id == null ? idStrategy.createId() : id);
     }
 
     /**
@@ -755,7 +776,7 @@ public class IssueBuilder implements AutoCloseable {
 
     @SuppressWarnings("PMD.NullAssignment")
     private void clean() {
-        id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
+        id = null; // make sure that multiple invocations will create different IDs
 
         lineStart = 0;
         lineEnd = 0;
@@ -804,4 +825,63 @@ public class IssueBuilder implements AutoCloseable {
         packageNameBuilder.dedup();
         messageBuilder.dedup();
     }
+
+    /**
+     * Strategies to create the IDs of issues. Each built issue consumes exactly one ID, unless an ID has been set
+     * explicitly.
+     */
+    public enum IdStrategy {
+        /**
+         * Creates random (version 4) UUIDs using a cryptographically strong random number generator. IDs are not
+         * predictable, but all threads share the same entropy source.
+         */
+        SECURE_RANDOM {
+            @Override
+            UUID createId() {
+                return UUID.randomUUID();
+            }
+        },
+        /**
+         * Creates random (version 4) UUIDs using the random number generator of the current thread. IDs are
+         * predictable, but creating them does not block or contend with other threads.
+         */
+        FAST_RANDOM {
+            @Override
+            UUID createId() {
+                var random = ThreadLocalRandom.current();
+                return createUuid(random.nextLong() & ~VERSION_MASK | 0x4000L, random.nextLong());
+            }
+        },
+        /**
+         * Creates time-ordered (version 7) UUIDs: the first 48 bits contain the current time in milliseconds, followed
+         * by a 12-bit sequence number and random bits of the current thread. The sequence number is reset for each new
+         * millisecond. If more IDs are created within the same millisecond, then the timestamp is advanced by one
+         * millisecond. So issues created later in the same JVM will get larger IDs, and indexes that are sorted by ID
+         * remain local.
+         */
+        TIME_ORDERED {
+            @Override
+            UUID createId() {
+                long timestampAndSequence = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(
+                        last -> Math.max(last + 1, System.currentTimeMillis() << SEQUENCE_BITS));
+                long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+                long sequence = timestampAndSequence & SEQUENCE_MASK;
+                return createUuid(timestamp << 16 | 0x7000L | sequence, ThreadLocalRandom.current().nextLong());
+            }
+        };
+
+        private static final long VERSION_MASK = 0xF000L;
+        private static final long VARIANT_MASK = 0xC000_0000_0000_0000L;
+        private static final long VARIANT = 0x8000_0000_0000_0000L;
+        private static final int SEQUENCE_BITS = 12;
+        private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+        /** The timestamp and the sequence number of the last time-ordered ID, see {@link #TIME_ORDERED}. */
+        private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+        abstract UUID createId();
+
+        private static UUID createUuid(final long mostSignificantBits, final long leastSignificantBits) {
+            return new UUID(mostSignificantBits, leastSignificantBits & ~VARIANT_MASK | VARIANT);
+        }
+    }
 }
@@ -6,10 +6,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -83,19 +85,17 @@ public class IssueDifference {
     }
 
     private void findIssuesInChangedCode(final Map<String, Integer> includes) {
+        var index = new IssueLineIndex(newIssues);
+        Set<Issue> issuesInChangedCode = Collections.newSetFromMap(new IdentityHashMap<>());
         for (Entry<String, Integer> include : includes.entrySet()) {
-            newIssues.filter(issue -> isInFileAtPosition(issue, include.getKey(), include.getValue()))
-                    .stream()
-                    .map(Issue::getId)
-                    .map(newIssues::remove)
-                    .forEach(newIssuesInChangedCode::add);
+            for (Issue issue : index.findByFileNameAndLine(include.getKey(), include.getValue())) {
+                if (issuesInChangedCode.add(issue)) {
+                    newIssuesInChangedCode.add(newIssues.remove(issue.getId()));
+                }
+            }
         }
     }
 
-    private boolean isInFileAtPosition(final Issue issue, final String fileName, final int line) {
-        return issue.getFileName().endsWith(fileName) && issue.affectsLine(line);
-    }
-
     private List<UUID> matchIssuesByEquals(final Report currentIssues) {
         List<UUID> removedIds = new ArrayList<>();
         for (Issue current : currentIssues) {
@@ -0,0 +1,208 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of issues by the names of the affected files and the affected lines. Files are searched by a suffix of the file
+ * name (see {@link String#endsWith(String)}), lines are searched using an interval tree of the line ranges of the
+ * issues in each file. The semantics are the same as {@code issue.getFileName().endsWith(suffix) &&
+ * issue.affectsLine(line)}, but a query does not need to scan all issues.
+ */
+class IssueLineIndex {
+    private final NavigableMap<String, FileIssues> issuesByReversedFileName = new TreeMap<>();
+    private final Map<Issue, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Creates an index for the specified issues.
+     *
+     * @param issues
+     *         the issues to index
+     */
+    IssueLineIndex(final Iterable<Issue> issues) {
+        Map<String, List<Issue>> issuesByFileName = new HashMap<>();
+        for (Issue issue : issues) {
+            positions.putIfAbsent(issue, positions.size());
+            issuesByFileName.computeIfAbsent(issue.getFileName(), k -> new ArrayList<>()).add(issue);
+        }
+        for (Entry<String, List<Issue>> file : issuesByFileName.entrySet()) {
+            issuesByReversedFileName.put(reverse(file.getKey()), new FileIssues(file.getValue()));
+        }
+    }
+
+    private static String reverse(final String fileName) {
+        return new StringBuilder(fileName).reverse().toString();
+    }
+
+    /**
+     * Returns all issues in files whose names end with the specified suffix.
+     *
+     * @param fileNameSuffix
+     *         the suffix of the file name
+     *
+     * @return the found issues, in the order of the indexed issues
+     */
+    List<Issue> findByFileName(final String fileNameSuffix) {
+        Set<Issue> found = createIdentitySet();
+        for (FileIssues file : findFiles(fileNameSuffix)) {
+            found.addAll(file.issues);
+        }
+        return sort(found);
+    }
+
+    /**
+     * Returns all issues in files whose names end with the specified suffix and that affect the specified line.
+     *
+     * @param fileNameSuffix
+     *         the suffix of the file name
+     * @param line
+     *         the line, 0 represents the whole file
+     *
+     * @return the found issues, in the order of the indexed issues
+     * @see Issue#affectsLine(int)
+     */
+    List<Issue> findByFileNameAndLine(final String fileNameSuffix, final int line) {
+        return findByFileNameAndLines(fileNameSuffix, List.of(line));
+    }
+
+    /**
+     * Returns all issues in files whose names end with the specified suffix and that affect at least one of the
+     * specified lines.
+     *
+     * @param fileNameSuffix
+     *         the suffix of the file name
+     * @param lines
+     *         the lines, 0 represents the whole file
+     *
+     * @return the found issues, in the order of the indexed issues
+     * @see Issue#affectsLine(int)
+     */
+    List<Issue> findByFileNameAndLines(final String fileNameSuffix, final Collection<Integer> lines) {
+        Set<Issue> found = createIdentitySet();
+        for (FileIssues file : findFiles(fileNameSuffix)) {
+            for (int line : lines) {
+                file.findByLine(line, found);
+            }
+        }
+        return sort(found);
+    }
+
+    private List<FileIssues> findFiles(final String fileNameSuffix) {
+        var prefix = reverse(fileNameSuffix);
+        List<FileIssues> files = new ArrayList<>();
+        for (Entry<String, FileIssues> file : issuesByReversedFileName.tailMap(prefix, true).entrySet()) {
+            if (!file.getKey().startsWith(prefix)) {
+                break;
+            }
+            files.add(file.getValue());
+        }
+        return files;
+    }
+
+    private List<Issue> sort(final Set<Issue> found) {
+        List<Issue> sorted = new ArrayList<>(found);
+        sorted.sort(Comparator.comparingInt(positions::get));
+        return sorted;
+    }
+
+    private static Set<Issue> createIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * The issues of a single file. The line ranges of all locations are stored in an array that is sorted by the start
+     * of the ranges. This array represents an implicit balanced binary search tree, where each node additionally stores
+     * the maximum end of the ranges in its subtree. Searching all ranges that contain a given line thus requires
+     * O(log n + k) steps, where k is the number of found ranges.
+     */
+    private static class FileIssues {
+        private final List<Issue> issues;
+        private final List<Issue> wholeFileIssues = new ArrayList<>();
+        private final Issue[] owners;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maximumEnds;
+
+        FileIssues(final List<Issue> issues) {
+            this.issues = issues;
+
+            List<Range> ranges = new ArrayList<>();
+            for (Issue issue : issues) {
+                if (issue.getLineStart() == 0) {
+                    wholeFileIssues.add(issue);
+                }
+                else {
+                    for (Location location : issue.getLocations()) {
+                        if (location.getLineStart() <= location.getLineEnd()) {
+                            ranges.add(new Range(location.getLineStart(), location.getLineEnd(), issue));
+                        }
+                    }
+                }
+            }
+            ranges.sort(Comparator.comparingInt(Range::start));
+
+            int size = ranges.size();
+            owners = new Issue[size];
+            starts = new int[size];
+            ends = new int[size];
+            maximumEnds = new int[size];
+            for (int i = 0; i < size; i++) {
+                var range = ranges.get(i);
+                owners[i] = range.issue();
+                starts[i] = range.start();
+                ends[i] = range.end();
+            }
+            computeMaximumEnds(0, size - 1);
+        }
+
+        private int computeMaximumEnds(final int low, final int high) {
+            if (low > high) {
+                return Integer.MIN_VALUE;
+            }
+            int middle = (low + high) >>> 1;
+            maximumEnds[middle] = Math.max(ends[middle],
+                    Math.max(computeMaximumEnds(low, middle - 1), computeMaximumEnds(middle + 1, high)));
+            return maximumEnds[middle];
+        }
+
+        void findByLine(final int line, final Set<Issue> found) {
+            if (line == 0) {
+                found.addAll(issues); // the whole file is marked, so every issue is affected
+            }
+            else {
+                found.addAll(wholeFileIssues);
+                findRanges(0, starts.length - 1, line, found);
+            }
+        }
+
+        private void findRanges(final int low, final int high, final int line, final Set<Issue> found) {
+            if (low > high) {
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (maximumEnds[middle] < line) {
+                return; // no range in this subtree reaches the line
+            }
+            findRanges(low, middle - 1, line, found);
+            if (starts[middle] <= line) {
+                if (line <= ends[middle]) {
+                    found.add(owners[middle]);
+                }
+                findRanges(middle + 1, high, line, found);
+            }
+        }
+    }
+
+    private record Range(int start, int end, Issue issue) {
+    }
+}
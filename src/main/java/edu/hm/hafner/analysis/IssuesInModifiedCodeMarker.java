@@ -24,9 +24,13 @@ public class IssuesInModifiedCodeMarker {
      *         a mapping modified lines within files
      */
     public void markIssuesInModifiedCode(final Report report, final Map<String, Set<Integer>> modifiedLinesInFilesMapping) {
+        if (modifiedLinesInFilesMapping.isEmpty()) {
+            return;
+        }
+
+        var index = new IssueLineIndex(report);
         for (Entry<String, Set<Integer>> include : modifiedLinesInFilesMapping.entrySet()) {
-            report.filter(issue -> affectsChangedLineInFile(issue, include.getKey(), include.getValue()))
-                    .stream()
+            index.findByFileNameAndLines(normalize(include.getKey()), include.getValue())
                     .forEach(Issue::markAsPartOfModifiedCode);
         }
     }
@@ -40,20 +44,17 @@ public class IssuesInModifiedCodeMarker {
      *         a set of modified file names
      */
     public void markIssuesInModifiedFiles(final Report report, final Set<String> modifiedFiles) {
-        for (String fileName : modifiedFiles) {
-            report.filter(issue -> affectsModifiedFile(issue, fileName))
-                    .stream()
-                    .forEach(Issue::markAsPartOfModifiedCode);
+        if (modifiedFiles.isEmpty()) {
+            return;
         }
-    }
 
-    private boolean affectsChangedLineInFile(final Issue issue, final String fileName, final Set<Integer> lines) {
-        return affectsModifiedFile(issue, fileName) && lines.stream().anyMatch(issue::affectsLine);
+        var index = new IssueLineIndex(report);
+        for (String fileName : modifiedFiles) {
+            index.findByFileName(normalize(fileName)).forEach(Issue::markAsPartOfModifiedCode);
+        }
     }
 
-    private boolean affectsModifiedFile(final Issue issue, final String fileName) {
-        var normalizedPath = PATH_UTIL.getRelativePath(fileName);
-
-        return issue.getFileName().endsWith(normalizedPath);
+    private String normalize(final String fileName) {
+        return PATH_UTIL.getRelativePath(fileName);
     }
 }
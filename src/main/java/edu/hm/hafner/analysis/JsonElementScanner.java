@@ -0,0 +1,371 @@
+package edu.hm.hafner.analysis;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.Ensure;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the elements of the arrays of a JSON document that match a given path without creating a model of the whole
+ * document. The document is scanned character by character and each matching element is reported as raw JSON text.
+ * So the memory that is required to read a document is proportional to the size of a single element, and not to the
+ * size of the whole document.
+ *
+ * <p>
+ * The path is given by the names of the array members, separated by slashes. E.g., the path {@code runs/results}
+ * matches the elements of the {@code results} arrays of all objects in the {@code runs} array of the root object. The
+ * empty path matches the elements of a root array. Values that do not fit the path (e.g., an array member that is not
+ * an array) are skipped.
+ * </p>
+ *
+ * <p>
+ * Together with each element the enclosing objects on the path are reported as well (starting with the root object).
+ * These objects contain all members except the array member of the path. Since such members might be located after
+ * the array in the document, the document is scanned twice: the first scan collects the enclosing objects, the second
+ * scan reports the elements.
+ * </p>
+ *
+ * <p>
+ * Optionally, the elements of a root array are accepted as well (for formats that changed their root value from an
+ * array to an object). Whether the document starts with an array is detected during the first scan, so such
+ * documents are scanned only once.
+ * </p>
+ */
+class JsonElementScanner {
+    private static final String SEPARATOR = "/";
+    private static final int END_OF_INPUT = -1;
+    private static final int NONE = -2;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReaderFactory readerFactory;
+    private final boolean acceptsRootArray;
+    private String[] path;
+    private final List<List<String>> enclosingObjects = new ArrayList<>();
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private int pushedBack = NONE;
+    private final int[] objectCounts;
+    private final int[] currentObjects;
+
+    /**
+     * Creates a new scanner for the elements of the specified JSON document.
+     *
+     * @param readerFactory
+     *         the factory that provides the JSON document
+     * @param path
+     *         the path of the arrays that contain the elements to read
+     * @param acceptsRootArray
+     *         determines whether the elements of a root array should be read as well
+     */
+    JsonElementScanner(final ReaderFactory readerFactory, final String path, final boolean acceptsRootArray) {
+        this.readerFactory = readerFactory;
+        this.acceptsRootArray = acceptsRootArray;
+        this.path = StringUtils.split(path, SEPARATOR);
+
+        objectCounts = new int[this.path.length];
+        currentObjects = new int[this.path.length];
+        for (int level = 0; level < this.path.length; level++) {
+            enclosingObjects.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Scans the document and passes each matching element to the specified handler.
+     *
+     * @param handler
+     *         the handler that consumes the enclosing objects and the raw JSON text of each element
+     *
+     * @throws ParsingException
+     *         if the document could not be read or is not a valid JSON document
+     */
+    void scan(final BiConsumer<List<String>, String> handler) {
+        if (path.length > 0) {
+            scanDocument(null, handler);
+            if (path.length == 0) {
+                return; // the elements of the root array have been reported during the first scan
+            }
+        }
+        scanDocument(handler, null);
+    }
+
+    /**
+     * Scans the document once and returns the root object without the array member of the path. Since the elements
+     * of the arrays are skipped, the memory that is required is proportional to the size of the other members only.
+     *
+     * @return the root object as raw JSON text, or an empty optional if the root value is not an object
+     * @throws ParsingException
+     *         if the document could not be read or is not a valid JSON document
+     */
+    Optional<String> scanRootObject() {
+        Ensure.that(path).isNotEmpty("The path of the root object must not be empty");
+
+        scanDocument(null, null);
+
+        return enclosingObjects.get(0).stream().findFirst();
+    }
+
+    private void scanDocument(@CheckForNull final BiConsumer<List<String>, String> handler,
+            @CheckForNull final BiConsumer<List<String>, String> rootArrayHandler) {
+        try (var reader = readerFactory.create()) {
+            position = 0;
+            limit = 0;
+            pushedBack = NONE;
+            for (int level = 0; level < path.length; level++) {
+                objectCounts[level] = 0;
+            }
+
+            int first = nextClean(reader);
+            if (first == END_OF_INPUT) {
+                return;
+            }
+            if (path.length == 0 && first == '[') {
+                readArray(reader, 0, handler);
+            }
+            else if (acceptsRootArray && rootArrayHandler != null && first == '[') {
+                path = new String[0];
+                readArray(reader, 0, rootArrayHandler);
+            }
+            else if (path.length > 0 && first == '{') {
+                readObject(reader, 0, handler);
+            }
+            else {
+                copyValue(reader, first, null);
+            }
+            int last = nextClean(reader);
+            if (last != END_OF_INPUT) {
+                throw createUnexpectedCharacterException(last);
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    private void readObject(final Reader reader, final int level,
+            @CheckForNull final BiConsumer<List<String>, String> handler) throws IOException {
+        currentObjects[level] = objectCounts[level]++;
+
+        var enclosingObject = handler == null ? new StringBuilder("{") : null;
+        int c = nextClean(reader);
+        while (c != '}') {
+            if (c != '"') {
+                throw createUnexpectedCharacterException(c);
+            }
+            var name = new StringBuilder("\"");
+            copyString(reader, name);
+            int separator = nextClean(reader);
+            if (separator != ':') {
+                throw createUnexpectedCharacterException(separator);
+            }
+
+            int value = nextClean(reader);
+            if (value == '[' && path[level].equals(decode(name))) {
+                readArray(reader, level + 1, handler);
+            }
+            else if (enclosingObject == null) {
+                copyValue(reader, value, null);
+            }
+            else {
+                if (enclosingObject.length() > 1) {
+                    enclosingObject.append(',');
+                }
+                enclosingObject.append(name).append(':');
+                copyValue(reader, value, enclosingObject);
+            }
+
+            c = nextClean(reader);
+            if (c == ',') {
+                c = nextClean(reader);
+            }
+            else if (c != '}') {
+                throw createUnexpectedCharacterException(c);
+            }
+        }
+        if (enclosingObject != null) {
+            enclosingObjects.get(level).add(enclosingObject.append('}').toString());
+        }
+    }
+
+    private void readArray(final Reader reader, final int level,
+            @CheckForNull final BiConsumer<List<String>, String> handler) throws IOException {
+        int c = nextClean(reader);
+        while (c != ']') {
+            if (level == path.length && handler != null) {
+                var element = new StringBuilder();
+                copyValue(reader, c, element);
+                handler.accept(getEnclosingObjects(), element.toString());
+            }
+            else if (level < path.length && c == '{') {
+                readObject(reader, level, handler);
+            }
+            else {
+                copyValue(reader, c, null);
+            }
+
+            c = nextClean(reader);
+            if (c == ',') {
+                c = nextClean(reader);
+            }
+            else if (c != ']') {
+                throw createUnexpectedCharacterException(c);
+            }
+        }
+    }
+
+    private List<String> getEnclosingObjects() {
+        List<String> objects = new ArrayList<>(path.length);
+        for (int level = 0; level < path.length; level++) {
+            objects.add(enclosingObjects.get(level).get(currentObjects[level]));
+        }
+        return objects;
+    }
+
+    private void copyValue(final Reader reader, final int first, @CheckForNull final StringBuilder value)
+            throws IOException {
+        switch (first) {
+            case '"' -> {
+                append(value, first);
+                copyString(reader, value);
+            }
+            case '{', '[' -> copyStructure(reader, first, value);
+            case END_OF_INPUT, ',', ':', '}', ']' -> throw createUnexpectedCharacterException(first);
+            default -> copyLiteral(reader, first, value);
+        }
+    }
+
+    private void copyString(final Reader reader, @CheckForNull final StringBuilder value) throws IOException {
+        while (true) {
+            int c = readMandatory(reader);
+            append(value, c);
+            if (c == '\\') {
+                append(value, readMandatory(reader));
+            }
+            else if (c == '"') {
+                return;
+            }
+        }
+    }
+
+    private void copyStructure(final Reader reader, final int first, @CheckForNull final StringBuilder value)
+            throws IOException {
+        append(value, first);
+        int depth = 1;
+        while (depth > 0) {
+            int c = readMandatory(reader);
+            append(value, c);
+            switch (c) {
+                case '"' -> copyString(reader, value);
+                case '{', '[' -> depth++;
+                case '}', ']' -> depth--;
+                default -> {
+                    // copy all other characters
+                }
+            }
+        }
+    }
+
+    private void copyLiteral(final Reader reader, final int first, @CheckForNull final StringBuilder value)
+            throws IOException {
+        append(value, first);
+        while (true) {
+            int c = read(reader);
+            if (c == END_OF_INPUT || c == ',' || c == ':' || c == '}' || c == ']' || isWhitespace(c)) {
+                pushedBack = c;
+                return;
+            }
+            append(value, c);
+        }
+    }
+
+    private void append(@CheckForNull final StringBuilder value, final int c) {
+        if (value != null) {
+            value.append((char) c);
+        }
+    }
+
+    private String decode(final StringBuilder quoted) {
+        var name = quoted.substring(1, quoted.length() - 1);
+        if (name.indexOf('\\') < 0) {
+            return name;
+        }
+        var decoded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '\\' && i + 1 < name.length()) {
+                char escaped = name.charAt(++i);
+                switch (escaped) {
+                    case 'b' -> decoded.append('\b');
+                    case 'f' -> decoded.append('\f');
+                    case 'n' -> decoded.append('\n');
+                    case 'r' -> decoded.append('\r');
+                    case 't' -> decoded.append('\t');
+                    case 'u' -> {
+                        if (i + 4 < name.length()) {
+                            decoded.append((char) Integer.parseInt(name.substring(i + 1, i + 5), 16));
+                            i += 4;
+                        }
+                    }
+                    default -> decoded.append(escaped);
+                }
+            }
+            else {
+                decoded.append(c);
+            }
+        }
+        return decoded.toString();
+    }
+
+    private int nextClean(final Reader reader) throws IOException {
+        while (true) {
+            int c = read(reader);
+            if (!isWhitespace(c)) {
+                return c;
+            }
+        }
+    }
+
+    private boolean isWhitespace(final int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\uFEFF';
+    }
+
+    private int readMandatory(final Reader reader) throws IOException {
+        int c = read(reader);
+        if (c == END_OF_INPUT) {
+            throw createUnexpectedCharacterException(c);
+        }
+        return c;
+    }
+
+    private int read(final Reader reader) throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return END_OF_INPUT;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private ParsingException createUnexpectedCharacterException(final int c) {
+        if (c == END_OF_INPUT) {
+            return new ParsingException(readerFactory, "Unexpected end of JSON document");
+        }
+        return new ParsingException(readerFactory, "Unexpected character '%s' in JSON document", (char) c);
+    }
+}
@@ -2,12 +2,21 @@ package edu.hm.hafner.analysis;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.Serial;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -37,28 +46,109 @@ public abstract class LookaheadParser extends IssueParser {
     private static final String HYPHEN = "'`";
 
     private static final int MAX_LINE_LENGTH = 4000; // see JENKINS-55805
+    private static final int CHUNKS_PER_WORKER = 4;
     private static final String NO_DIRECTORY = "";
 
     private final Pattern pattern;
+    @SuppressWarnings("serial")
+    private List<String> requiredLiterals; // not final to support deserialization of older releases
 
     @SuppressWarnings("serial")
     private final Deque<String> recursiveDirectories;
+    private int parallelism = 1;
 
     /**
-     * Creates a new instance of {@link LookaheadParser}.
+     * Creates a new instance of {@link LookaheadParser}. The literals that are required by every match of the pattern
+     * are extracted automatically: lines that contain none of these literals are skipped without running the regular
+     * expression.
      *
      * @param pattern
      *         pattern of compiler warnings.
      */
     protected LookaheadParser(final String pattern) {
+        this(pattern, RequiredLiterals.extract(pattern));
+    }
+
+    /**
+     * Creates a new instance of {@link LookaheadParser} with explicitly declared required literals. Use this
+     * constructor if the required literals cannot be extracted automatically from the pattern (e.g., for case-insensitive
+     * patterns).
+     *
+     * @param pattern
+     *         pattern of compiler warnings.
+     * @param requiredLiterals
+     *         the literals that are required by every match of the pattern: a line is handed over to the regular
+     *         expression only if it contains at least one of these literals. If empty, then every line will be matched.
+     */
+    protected LookaheadParser(final String pattern, final List<String> requiredLiterals) {
         super();
 
         this.pattern = Pattern.compile(pattern);
+        this.requiredLiterals = List.copyOf(requiredLiterals);
         this.recursiveDirectories = new ArrayDeque<>();
     }
 
+    /**
+     * Called after deserialization to initialize fields that have been introduced after the first release.
+     *
+     * @return this
+     */
+    @Serial
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "Deserialization of instances that do not have all fields yet")
+    protected Object readResolve() {
+        if (requiredLiterals == null) {
+            requiredLiterals = List.of(); // older releases matched every line
+        }
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads that parse the report file. If the parallelism is greater than one and the
+     * parser is stateless per line (see {@link #isStatelessPerLine()}), then the report file is split into chunks of
+     * complete lines that are parsed concurrently. The issues of the chunks are merged in the order of the report
+     * file, so the resulting report is the same as the report of a sequential parser. If the report file cannot be
+     * split or if it contains directory changes, then the file is parsed sequentially.
+     *
+     * @param parallelism
+     *         the number of worker threads, use 1 to parse the report file in the calling thread
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public LookaheadParser setParallelism(final int parallelism) {
+        Ensure.that(parallelism > 0).isTrue("Parallelism must be positive: %d", parallelism);
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * Returns whether this parser is stateless per line, i.e., whether each issue is created from a single line only.
+     * Such a parser does not consume additional lines from the lookahead stream, does not use the line numbers of the
+     * lookahead stream, and does not store any state while parsing (e.g., in {@link #preprocessLine(String)} or in the
+     * issue builder). Then the lines of the report file can be parsed in any order. This default implementation
+     * returns {@code false}.
+     *
+     * @return {@code true} if the lines of the report file can be parsed independently of each other
+     * @see #setParallelism(int)
+     */
+    protected boolean isStatelessPerLine() {
+        return false;
+    }
+
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        if (parallelism > 1 && isStatelessPerLine()) {
+            var chunks = readerFactory.split(parallelism * CHUNKS_PER_WORKER);
+            if (chunks.size() > 1) {
+                var report = parseInParallel(chunks);
+                if (report.isPresent()) {
+                    return postProcess(report.get());
+                }
+            }
+        }
+
         var report = new Report();
         try (Stream<String> lines = readerFactory.readStream()) {
             try (var lookahead = new LookaheadStream(lines, readerFactory.getFileName())) {
@@ -69,24 +159,114 @@ public abstract class LookaheadParser extends IssueParser {
         return postProcess(report);
     }
 
-    @SuppressWarnings("PMD.DoNotUseThreads")
-    private void parse(final Report report, final LookaheadStream lookahead) {
-        try (var builder = new IssueBuilder()) {
+    private Optional<Report> parseInParallel(final List<ReaderFactory> chunks) {
+        var pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<Optional<List<Issue>>>> results = new ArrayList<>();
+            for (ReaderFactory chunk : chunks) {
+                results.add(pool.submit(() -> parseChunk(chunk)));
+            }
+            var report = new Report();
+            for (Future<Optional<List<Issue>>> result : results) {
+                var issues = result.get();
+                if (issues.isEmpty()) {
+                    return Optional.empty(); // directories need to be tracked sequentially
+                }
+                issues.get().forEach(report::add);
+            }
+            return Optional.of(report);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Can't parse report file", exception.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Optional<List<Issue>> parseChunk(final ReaderFactory chunk) {
+        List<Issue> issues = new ArrayList<>();
+        try (Stream<String> lines = chunk.readStream();
+                var lookahead = new LookaheadStream(lines, chunk.getFileName());
+                var builder = new IssueBuilder()) {
             while (lookahead.hasNext()) {
                 var line = lookahead.next();
-                handleDirectoryChanges(builder, line, report);
-                preprocessLine(line);
-                if (isLineInteresting(line)) {
-                    var matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        createIssue(matcher, lookahead, builder).ifPresent(report::add);
-                    }
-                }
-                if (Thread.interrupted()) {
-                    throw new ParsingCanceledException();
+                if (isDirectoryChange(line)) {
+                    return Optional.empty();
                 }
+                parseLine(line, lookahead, builder).ifPresent(issues::add);
+                checkCanceled();
+            }
+        }
+        return Optional.of(issues);
+    }
+
+    private void parse(final Report report, final LookaheadStream lookahead) {
+        try (var builder = new IssueBuilder()) {
+            while (lookahead.hasNext()) {
+                parseNextLine(report, lookahead, builder);
+            }
+        }
+    }
+
+    /**
+     * Parses the next line of the specified lookahead stream. If the line contains an issue, then this issue will be
+     * added to the report. Note that the parser might consume additional lines of the stream in order to create the
+     * issue.
+     *
+     * @param report
+     *         the report to add the issues to
+     * @param lookahead
+     *         the lines of the report file
+     * @param builder
+     *         the issue builder to use
+     *
+     * @throws ParsingCanceledException
+     *         signals that the user has aborted the parsing
+     */
+    void parseNextLine(final Report report, final LookaheadStream lookahead, final IssueBuilder builder) {
+        var line = lookahead.next();
+        handleDirectoryChanges(builder, line, report);
+        parseLine(line, lookahead, builder).ifPresent(report::add);
+        checkCanceled();
+    }
+
+    private Optional<Issue> parseLine(final String line, final LookaheadStream lookahead, final IssueBuilder builder) {
+        preprocessLine(line);
+        if (isLineInteresting(line) && containsRequiredLiteral(line)) {
+            var matcher = pattern.matcher(line);
+            if (matcher.find()) {
+                return createIssue(matcher, lookahead, builder);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private void checkCanceled() {
+        if (Thread.interrupted()) {
+            throw new ParsingCanceledException();
+        }
+    }
+
+    private boolean containsRequiredLiteral(final String line) {
+        if (requiredLiterals.isEmpty()) {
+            return true;
+        }
+        for (String literal : requiredLiterals) {
+            if (line.contains(literal)) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -132,6 +312,11 @@ public abstract class LookaheadParser extends IssueParser {
         return NO_DIRECTORY;
     }
 
+    /** Returns whether the specified line enters or leaves a directory of a Make or CMake build. */
+    private boolean isDirectoryChange(final String line) {
+        return line.contains(ENTERING_DIRECTORY) || line.contains(LEAVING_DIRECTORY) || line.contains(CMAKE_PREFIX);
+    }
+
     /**
      * Uses Make-like ("Entering directory" and "Leaving directory") and CMake-like ("Build files have been written to")
      * output to track directory structure as the compiler moves between source locations.
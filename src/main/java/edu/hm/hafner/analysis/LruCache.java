@@ -0,0 +1,37 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+/**
+ * A map that removes the least recently used entry if the maximum size has been reached. This map is not thread-safe.
+ *
+ * @param <K>
+ *         the type of the keys
+ * @param <V>
+ *         the type of the values
+ */
+class LruCache<K, V> extends LinkedHashMap<K, V> {
+    @Serial
+    private static final long serialVersionUID = -2011434786373413006L;
+
+    private final int maximumSize;
+
+    /**
+     * Creates a new empty cache.
+     *
+     * @param maximumSize
+     *         the maximum number of entries
+     */
+    LruCache(final int maximumSize) {
+        super(16, 0.75f, true);
+
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Entry<K, V> eldest) {
+        return size() > maximumSize;
+    }
+}
@@ -0,0 +1,650 @@
+package edu.hm.hafner.analysis;
+
+import edu.hm.hafner.analysis.Report.IssueType;
+import edu.hm.hafner.util.TreeString;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A read-only counterpart of a {@link Report} that is backed by a memory-mapped file. When opening such a file, only
+ * the summary of the report (sizes, severity distribution, counters, modules, and log messages) is read. The
+ * individual issues are decoded on demand when they are iterated or fetched by index or ID. Each of these calls
+ * creates a new {@link Issue} instance. So a large number of archived reports can be browsed without loading all of
+ * their issues into the heap.
+ *
+ * <p>
+ * Note that this class is not a {@link Report}: it provides only the read accessors that are required to browse the
+ * archived issues, and it cannot be passed to methods that expect a report. Use {@link #toReport()} to create a
+ * report that contains all issues.
+ * </p>
+ *
+ * <p>
+ * The file stores each distinct string only once. The issues of the report (including the issues of all sub-reports)
+ * are stored in the order of {@link Report#stream()} using the encoding of {@link ReportCodec}. Tables with the
+ * offsets of all strings and issues and a sorted table of the issue IDs make it possible to seek directly to a given
+ * string or issue.
+ * </p>
+ *
+ * <p>
+ * The file is unmapped when the view is closed. Afterward, the summary of the report is still available, but the
+ * issues cannot be read anymore.
+ * </p>
+ */
+public final class MappedReport implements Iterable<Issue>, AutoCloseable {
+    private static final int MAGIC = 0x414D_5253; // "AMRS"
+    private static final int VERSION = 1;
+    private static final int TRAILER_SIZE = 4 * Integer.BYTES;
+    private static final int ID_ENTRY_SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final Cursor cursor;
+    private final IssueDecoder decoder;
+    private final int stringOffsets;
+    private final int issueOffsets;
+    private final int idIndex;
+    private final String[] strings;
+    private final TreeString[] treeStrings;
+    private final int size;
+    private boolean closed;
+
+    private final String id;
+    private final String name;
+    private final String effectiveId;
+    private final String effectiveName;
+    private final String originReportFile;
+    private final String icon;
+    private final String parserId;
+    private final IssueType elementType;
+    private final int duplicatesSize;
+    private final Map<String, Integer> sizeBySeverity = new LinkedHashMap<>();
+    private final Map<String, Integer> counters = new LinkedHashMap<>();
+    private final Set<String> modules = new LinkedHashSet<>();
+    private final List<String> infoMessages = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    /**
+     * Writes the specified report to the specified file. Existing files will be overwritten.
+     *
+     * @param report
+     *         the report to write
+     * @param file
+     *         the file to write the report to
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public static void write(final Report report, final Path file) throws IOException {
+        new Writer(report).write(file);
+    }
+
+    /**
+     * Opens the specified file that has been written using {@link #write(Report, Path)}. Only the summary of the
+     * report will be read, the issues are read on demand. The returned view should be closed to release the mapping
+     * of the file.
+     *
+     * @param file
+     *         the file to open
+     *
+     * @return a read-only view of the report in the file
+     * @throws IOException
+     *         if the file could not be opened or if the file does not contain a report in a supported format
+     */
+    public static MappedReport open(final Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Report file " + file + " is too large");
+            }
+            if (channel.size() < 2 * Integer.BYTES + TRAILER_SIZE) {
+                throw new IOException("File " + file + " does not contain a report");
+            }
+            var buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return new MappedReport(buffer, file);
+            }
+            catch (IOException | IndexOutOfBoundsException exception) {
+                unmap(buffer);
+                throw exception;
+            }
+        }
+    }
+
+    private MappedReport(final ByteBuffer buffer, final Path file) throws IOException {
+        this.buffer = buffer;
+        this.file = file;
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("File " + file + " does not contain a report");
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IOException("Unsupported version %d of report file %s".formatted(version, file));
+        }
+
+        int trailer = buffer.limit() - TRAILER_SIZE;
+        int summary = buffer.getInt(trailer);
+        stringOffsets = buffer.getInt(trailer + Integer.BYTES);
+        issueOffsets = buffer.getInt(trailer + 2 * Integer.BYTES);
+        idIndex = buffer.getInt(trailer + 3 * Integer.BYTES);
+
+        int stringCount = (issueOffsets - stringOffsets) / Integer.BYTES;
+        strings = new String[stringCount];
+        treeStrings = new TreeString[stringCount];
+        size = (idIndex - issueOffsets) / Integer.BYTES;
+
+        cursor = new Cursor(buffer, summary);
+        decoder = new IssueDecoder(cursor);
+        id = decoder.readString();
+        name = decoder.readString();
+        effectiveId = decoder.readString();
+        effectiveName = decoder.readString();
+        originReportFile = decoder.readString();
+        icon = decoder.readString();
+        parserId = decoder.readString();
+        elementType = IssueType.valueOf(decoder.readString());
+        duplicatesSize = decoder.readNumber();
+        int severities = decoder.readNumber();
+        for (int i = 0; i < severities; i++) {
+            sizeBySeverity.put(decoder.readString(), decoder.readNumber());
+        }
+        int counterCount = decoder.readNumber();
+        for (int i = 0; i < counterCount; i++) {
+            counters.put(decoder.readString(), decoder.readSignedNumber());
+        }
+        modules.addAll(decoder.readStrings());
+        infoMessages.addAll(decoder.readStrings());
+        errorMessages.addAll(decoder.readStrings());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the effective ID of the report, see {@link Report#getEffectiveId()}.
+     *
+     * @return the effective ID
+     */
+    public String getEffectiveId() {
+        return effectiveId;
+    }
+
+    /**
+     * Returns the effective name of the report, see {@link Report#getEffectiveName()}.
+     *
+     * @return the effective name
+     */
+    public String getEffectiveName() {
+        return effectiveName;
+    }
+
+    public String getOriginReportFile() {
+        return originReportFile;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public String getParserId() {
+        return parserId;
+    }
+
+    public IssueType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Returns the number of issues in this report.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this report is empty.
+     *
+     * @return {@code true} if this report is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of duplicates that have been skipped when the report was created, see
+     * {@link Report#getDuplicatesSize()}.
+     *
+     * @return number of duplicates
+     */
+    public int getDuplicatesSize() {
+        return duplicatesSize;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@code severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return sizeBySeverity.getOrDefault(severity.getName(), 0);
+    }
+
+    /**
+     * Returns the specified custom counter of this report, see {@link Report#getCounter(String)}.
+     *
+     * @param key
+     *         the unique key for this counter
+     *
+     * @return the current value of the counter, or 0 if the counter has not been set
+     */
+    public int getCounter(final String key) {
+        return counters.getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns whether the specified custom counter has been set in this report or one of its sub-reports.
+     *
+     * @param key
+     *         the unique key for this counter
+     *
+     * @return {@code true} if the counter has been set, {@code false} otherwise
+     */
+    public boolean hasCounter(final String key) {
+        return counters.containsKey(key);
+    }
+
+    /**
+     * Returns the modules of all issues.
+     *
+     * @return the affected modules
+     */
+    public Set<String> getModules() {
+        return Set.copyOf(modules);
+    }
+
+    public List<String> getInfoMessages() {
+        return List.copyOf(infoMessages);
+    }
+
+    public List<String> getErrorMessages() {
+        return List.copyOf(errorMessages);
+    }
+
+    /**
+     * Returns the issue with the specified index.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the issue at the specified index
+     * @throws IndexOutOfBoundsException
+     *         if there is no element for the given index
+     * @throws IllegalStateException
+     *         if this view has been closed
+     */
+    public synchronized Issue get(final int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No issue found at index %d of %d".formatted(index, size));
+        }
+        cursor.position = buffer.getInt(issueOffsets + index * Integer.BYTES);
+        try {
+            return decoder.readIssue();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Can't read issue %d of report file %s".formatted(index, file), exception);
+        }
+    }
+
+    /**
+     * Returns the issue with the specified ID.
+     *
+     * @param issueId
+     *         the ID of the issue
+     *
+     * @return the found issue
+     * @throws NoSuchElementException
+     *         if there is no such issue found
+     * @throws IllegalStateException
+     *         if this view has been closed
+     */
+    public synchronized Issue findById(final UUID issueId) {
+        ensureOpen();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = idIndex + middle * ID_ENTRY_SIZE;
+            int comparison = compare(buffer.getLong(entry), buffer.getLong(entry + Long.BYTES), issueId);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                return get(buffer.getInt(entry + 2 * Long.BYTES));
+            }
+        }
+        throw new NoSuchElementException("No issue found with id %s.".formatted(issueId));
+    }
+
+    private static int compare(final long mostSignificantBits, final long leastSignificantBits, final UUID other) {
+        int comparison = Long.compare(mostSignificantBits, other.getMostSignificantBits());
+        if (comparison != 0) {
+            return comparison;
+        }
+        return Long.compare(leastSignificantBits, other.getLeastSignificantBits());
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of the issues of this report.
+     *
+     * @return a sequential {@code Stream} over the issues
+     */
+    public Stream<Issue> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Reads all issues of this view and creates a new {@link Report} that contains these issues. Note that the
+     * sub-reports of the original report are not restored, all issues are stored as top-level elements.
+     *
+     * @return the report
+     */
+    public Report toReport() {
+        var report = new Report(id, name, originReportFile, elementType);
+        report.setIcon(icon);
+        report.addAll(stream().toList());
+        counters.forEach(report::setCounter);
+        infoMessages.forEach(message -> report.logInfo("%s", message));
+        errorMessages.forEach(message -> report.logError("%s", message));
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return "%s (%s): %d issues".formatted(getEffectiveName(), getEffectiveId(), size);
+    }
+
+    /**
+     * Closes this view and unmaps the file. The summary of the report is still available afterward, but the issues
+     * cannot be read anymore.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            unmap(buffer);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Report file " + file + " has been closed");
+        }
+    }
+
+    /**
+     * Unmaps the specified buffer. Java provides no public API to unmap a buffer before it is garbage collected, so
+     * the internal cleaner is invoked if the JVM provides it. Otherwise, the mapping is released by the garbage
+     * collector.
+     *
+     * @param buffer
+     *         the buffer to unmap
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.AvoidAccessibilityAlteration"})
+    private static void unmap(final ByteBuffer buffer) {
+        try {
+            var unsafeClass = Class.forName("sun.misc.Unsafe");
+            var unsafe = unsafeClass.getDeclaredField("theUnsafe");
+            unsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafe.get(null), buffer);
+        }
+        catch (ReflectiveOperationException | RuntimeException exception) {
+            // ignore, the mapping will be released by the garbage collector
+        }
+    }
+
+    /**
+     * Decodes the issues and the summary of the mapped report. Strings are not stored inline but as references into the
+     * string table of the file, see {@link StringTableEncoder}.
+     */
+    private final class IssueDecoder extends ReportCodec.Decoder {
+        IssueDecoder(final Cursor cursor) {
+            super(new DataInputStream(cursor));
+        }
+
+        @Override
+        String readString() throws IOException {
+            return getString(readNumber());
+        }
+
+        @Override
+        TreeString readTreeString() throws IOException {
+            int index = readNumber();
+            var value = treeStrings[index];
+            if (value == null) {
+                value = TreeString.valueOf(getString(index));
+                treeStrings[index] = value;
+            }
+            return value;
+        }
+
+        private String getString(final int index) throws IOException {
+            var value = strings[index];
+            if (value == null) {
+                int position = cursor.position;
+                cursor.position = buffer.getInt(stringOffsets + index * Integer.BYTES);
+                value = readText();
+                cursor.position = position;
+                strings[index] = value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Reads the bytes of the mapped buffer starting at an absolute position. The position of the buffer itself is not
+     * modified.
+     */
+    private static final class Cursor extends InputStream {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Cursor(final ByteBuffer buffer, final int position) {
+            super();
+
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            if (position >= buffer.limit()) {
+                return -1;
+            }
+            return buffer.get(position++) & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            int available = buffer.limit() - position;
+            if (available <= 0) {
+                return -1;
+            }
+            int count = Math.min(length, available);
+            buffer.get(position, bytes, offset, count);
+            position += count;
+            return count;
+        }
+    }
+
+    /**
+     * Writes a report into the file format of {@link MappedReport}.
+     */
+    private static final class Writer {
+        private final Report report;
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        Writer(final Report report) {
+            this.report = report;
+        }
+
+        void write(final Path file) throws IOException {
+            var issues = new ByteArrayOutputStream();
+            var issueEncoder = new StringTableEncoder(new DataOutputStream(issues), strings);
+            List<Integer> issueOffsets = new ArrayList<>();
+            List<UUID> ids = new ArrayList<>();
+            for (Issue issue : report) {
+                issueOffsets.add(issues.size());
+                ids.add(issue.getId());
+                issueEncoder.writeIssue(issue);
+            }
+            var summary = new ByteArrayOutputStream();
+            writeSummary(new StringTableEncoder(new DataOutputStream(summary), strings));
+
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+
+                int summaryOffset = output.size();
+                summary.writeTo(output);
+
+                var stringEncoder = new ReportCodec.Encoder(output);
+                List<Integer> stringOffsets = new ArrayList<>(strings.size());
+                for (String value : strings.keySet()) {
+                    stringOffsets.add(output.size());
+                    stringEncoder.writeText(value);
+                }
+
+                int issuesOffset = output.size();
+                issues.writeTo(output);
+
+                int stringOffsetsOffset = output.size();
+                for (int offset : stringOffsets) {
+                    output.writeInt(offset);
+                }
+                int issueOffsetsOffset = output.size();
+                for (int offset : issueOffsets) {
+                    output.writeInt(issuesOffset + offset);
+                }
+                int idIndexOffset = output.size();
+                writeIdIndex(output, ids);
+
+                output.writeInt(summaryOffset);
+                output.writeInt(stringOffsetsOffset);
+                output.writeInt(issueOffsetsOffset);
+                output.writeInt(idIndexOffset);
+                if (output.size() == Integer.MAX_VALUE) { // the size of a DataOutputStream saturates
+                    throw new IOException("Report " + report + " is too large");
+                }
+            }
+        }
+
+        private void writeIdIndex(final DataOutputStream output, final List<UUID> ids) throws IOException {
+            Integer[] order = new Integer[ids.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing(ids::get, Comparator.comparingLong(UUID::getMostSignificantBits)
+                    .thenComparingLong(UUID::getLeastSignificantBits)));
+            for (int index : order) {
+                var issueId = ids.get(index);
+                output.writeLong(issueId.getMostSignificantBits());
+                output.writeLong(issueId.getLeastSignificantBits());
+                output.writeInt(index);
+            }
+        }
+
+        private void writeSummary(final ReportCodec.Encoder encoder) throws IOException {
+            encoder.writeString(report.getId());
+            encoder.writeString(report.getName());
+            encoder.writeString(report.getEffectiveId());
+            encoder.writeString(report.getEffectiveName());
+            encoder.writeString(report.getOriginReportFile());
+            encoder.writeString(report.getIcon());
+            encoder.writeString(report.getParserId());
+            encoder.writeString(report.getElementType().name());
+            encoder.writeNumber(report.getDuplicatesSize());
+
+            Map<String, Integer> sizeBySeverity = report.getPropertyCount(issue -> issue.getSeverity().getName());
+            encoder.writeNumber(sizeBySeverity.size());
+            for (Entry<String, Integer> severity : sizeBySeverity.entrySet()) {
+                encoder.writeString(severity.getKey());
+                encoder.writeNumber(severity.getValue());
+            }
+            var counterKeys = report.getCounterKeys();
+            encoder.writeNumber(counterKeys.size());
+            for (String key : counterKeys) {
+                encoder.writeString(key);
+                encoder.writeSignedNumber(report.getCounter(key));
+            }
+            encoder.writeStrings(report.getModules());
+            encoder.writeStrings(report.getInfoMessages());
+            encoder.writeStrings(report.getErrorMessages());
+        }
+    }
+
+    /**
+     * Writes strings as references into the string table of the file. In contrast to the inline strings of
+     * {@link ReportCodec}, each issue can be decoded without decoding the preceding issues.
+     */
+    private static final class StringTableEncoder extends ReportCodec.Encoder {
+        private final Map<String, Integer> strings;
+
+        StringTableEncoder(final DataOutputStream output, final Map<String, Integer> strings) {
+            super(output);
+
+            this.strings = strings;
+        }
+
+        @Override
+        void writeString(final String value) throws IOException {
+            writeNumber(strings.computeIfAbsent(value, k -> strings.size()));
+        }
+    }
+}
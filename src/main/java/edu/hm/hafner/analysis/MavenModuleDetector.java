@@ -7,8 +7,7 @@ import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
 
 import java.io.IOException;
 import java.nio.file.InvalidPathException;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Detects module names by parsing the name of a source file, the Maven pom.xml.
@@ -26,12 +25,8 @@ class MavenModuleDetector extends AbstractModuleDetector {
     }
 
     @Override
-    void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(MAVEN_POM)) {
-                addMapping(mapping, fileName, MAVEN_POM, parsePom(fileName));
-            }
-        }
+    Optional<String> getPrefix(final String fileName) {
+        return getPrefix(fileName, MAVEN_POM);
     }
 
     /**
@@ -42,7 +37,8 @@ class MavenModuleDetector extends AbstractModuleDetector {
      *
      * @return the project name or an empty string if the name could not be resolved
      */
-    private String parsePom(final String pom) {
+    @Override
+    String parseModuleName(final String pom) {
         var name = parsePomAttribute(pom, "name");
 
         return StringUtils.defaultIfBlank(name, parsePomAttribute(pom, "artifactId"));
@@ -8,14 +8,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.errorprone.annotations.MustBeClosed;
 
 import edu.hm.hafner.util.PathUtil;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Detects module names by parsing the name of a source file, the Maven pom.xml file or the ANT build.xml file.
@@ -26,15 +34,20 @@ import edu.hm.hafner.util.PathUtil;
 public class ModuleDetectorRunner {
     private static final String BACK_SLASH = "\\";
     private static final String SLASH = "/";
+    private static final char SEPARATOR = '/';
+    private static final int MAX_CACHE_SIZE = 100_000;
 
     /** A list of all module detectors (e.g., Maven). */
     private final List<AbstractModuleDetector> moduleDetectors;
     /** The factory to create input streams with. */
     private final FileSystemFacade fileSystemFacade;
-    /** Maps file names to module names. */
-    private final Map<String, String> fileNameToModuleName;
-    /** Sorted list of file name prefixes. */
-    private final List<String> prefixes;
+    /** The module names of the project files that have been parsed in previous runs. */
+    private final ModuleNameCache moduleNameCache;
+    /** The module roots, organized as a trie of path segments. */
+    private final ModuleRoot root = new ModuleRoot();
+    /** Caches the module names of the already resolved file names. */
+    private final Map<String, String> moduleNamesByFileName
+            = Collections.synchronizedMap(new LruCache<>(MAX_CACHE_SIZE));
 
     /**
      * Creates a new instance of {@link ModuleDetectorRunner}.
@@ -45,7 +58,25 @@ public class ModuleDetectorRunner {
      *         file system facade to find and load the files with
      */
     public ModuleDetectorRunner(final Path workspace, final FileSystemFacade fileSystemFacade) {
+        this(workspace, fileSystemFacade, new ModuleNameCache());
+    }
+
+    /**
+     * Creates a new instance of {@link ModuleDetectorRunner}. Project files that are part of the specified cache and
+     * that have not been modified since will not be parsed again.
+     *
+     * @param workspace
+     *         the workspace to scan for module files
+     * @param fileSystemFacade
+     *         file system facade to find and load the files with
+     * @param moduleNameCache
+     *         the module names of the project files that have been parsed in previous runs, will be updated with the
+     *         module names of all project files in the workspace
+     */
+    public ModuleDetectorRunner(final Path workspace, final FileSystemFacade fileSystemFacade,
+            final ModuleNameCache moduleNameCache) {
         this.fileSystemFacade = fileSystemFacade;
+        this.moduleNameCache = moduleNameCache;
 
         moduleDetectors = Arrays.asList(
                 new AntModuleDetector(this.fileSystemFacade),
@@ -54,13 +85,17 @@ public class ModuleDetectorRunner {
                 new OsgiModuleDetector(this.fileSystemFacade)
         );
 
-        fileNameToModuleName = createFilesToModuleMapping(workspace);
-        prefixes = new ArrayList<>(fileNameToModuleName.keySet());
-        Collections.sort(prefixes);
+        for (Entry<String, String> prefix : createFilesToModuleMapping(workspace).entrySet()) {
+            root.add(prefix.getKey(), prefix.getValue());
+        }
     }
 
     /**
-     * Returns a mapping of path prefixes to module names.
+     * Returns a mapping of path prefixes to module names. The workspace is scanned only once for the project files of
+     * all detectors, using a single {@link FileSystemFacade#find(Path, String)} call with the combined patterns (so it
+     * is up to the facade how the directory tree is walked). The found project files are then parsed in parallel. If
+     * several project files refer to the same path prefix, then the detector that comes last in the list of detectors
+     * wins.
      *
      * @param workspace
      *         the workspace to start scanning for files
@@ -68,19 +103,79 @@ public class ModuleDetectorRunner {
      * @return the mapping of path prefixes to module names
      */
     private Map<String, String> createFilesToModuleMapping(final Path workspace) {
-        Map<String, String> mapping = new HashMap<>();
-
         List<String> projects = find(workspace);
 
+        List<ProjectFile> projectFiles = new ArrayList<>();
         for (AbstractModuleDetector moduleDetector : moduleDetectors) {
-            moduleDetector.collectProjects(mapping, projects);
+            for (String fileName : projects) {
+                moduleDetector.getPrefix(fileName)
+                        .ifPresent(prefix -> projectFiles.add(new ProjectFile(moduleDetector, fileName, prefix)));
+            }
         }
 
+        List<String> moduleNames = parseModuleNames(projectFiles);
+
+        Map<String, String> mapping = new HashMap<>();
+        for (int i = 0; i < projectFiles.size(); i++) {
+            var moduleName = moduleNames.get(i);
+            if (StringUtils.isNotBlank(moduleName)) {
+                mapping.put(projectFiles.get(i).prefix(), moduleName);
+            }
+        }
         return mapping;
     }
 
     /**
-     * Uses the path prefixes of pom.xml or build.xml files to guess a module name for the specified file.
+     * Parses the module names of the specified project files using a dedicated pool of worker threads. Since parsing
+     * blocks on reading the files, the common fork-join pool is not used.
+     *
+     * @param projectFiles
+     *         the project files to parse
+     *
+     * @return the module names of the project files, in the same order
+     */
+    private List<String> parseModuleNames(final List<ProjectFile> projectFiles) {
+        int parallelism = Math.min(projectFiles.size(), Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            return projectFiles.stream().map(this::parseModuleName).toList();
+        }
+
+        var executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (ProjectFile projectFile : projectFiles) {
+                results.add(executor.submit(() -> parseModuleName(projectFile)));
+            }
+            List<String> moduleNames = new ArrayList<>();
+            for (Future<String> result : results) {
+                moduleNames.add(result.get());
+            }
+            return moduleNames;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Can't parse project files", exception.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String parseModuleName(final ProjectFile projectFile) {
+        var detector = projectFile.detector();
+        var fileName = projectFile.fileName();
+
+        return moduleNameCache.getModuleName(fileName, detector.getLastModified(fileName),
+                detector::parseModuleName);
+    }
+
+    /**
+     * Uses the path prefixes of pom.xml or build.xml files to guess a module name for the specified file. If several
+     * module roots contain the file, then the module of the innermost root is returned.
      *
      * @param originalFileName
      *         file name to guess a module for, must be an absolute path
@@ -88,15 +183,8 @@ public class ModuleDetectorRunner {
      * @return a module name or an empty string
      */
     public String guessModuleName(final String originalFileName) {
-        var fullPath = originalFileName.replace('\\', '/');
-
-        var guessedModule = StringUtils.EMPTY;
-        for (String path : prefixes) {
-            if (fullPath.startsWith(path) && fileNameToModuleName.containsKey(path)) {
-                guessedModule = fileNameToModuleName.get(path);
-            }
-        }
-        return guessedModule;
+        return moduleNamesByFileName.computeIfAbsent(originalFileName,
+                fileName -> root.findModuleName(fileName.replace('\\', SEPARATOR)));
     }
 
     /**
@@ -108,30 +196,106 @@ public class ModuleDetectorRunner {
      * @return the found files (as absolute paths)
      */
     private List<String> find(final Path path) {
-        List<String> absoluteFileNames = new ArrayList<>();
+        var pattern = moduleDetectors.stream()
+                .map(AbstractModuleDetector::getPattern)
+                .collect(Collectors.joining(AbstractModuleDetector.PLUS));
 
-        for (AbstractModuleDetector moduleDetector : moduleDetectors) {
-            var relativeFileNames = fileSystemFacade.find(path, moduleDetector.getPattern());
-            for (String relativeFileName : relativeFileNames) {
-                var relativePath = normalizePath(relativeFileName);
-                if (relativePath.startsWith(SLASH)) {
-                    absoluteFileNames.add(relativePath);
-                }
-                else {
-                    absoluteFileNames.add(new PathUtil().getAbsolutePath(path) + SLASH + relativePath);
-                }
+        Set<String> absoluteFileNames = new LinkedHashSet<>();
+        var absolutePath = new PathUtil().getAbsolutePath(path);
+        for (String relativeFileName : fileSystemFacade.find(path, pattern)) {
+            var relativePath = normalizePath(relativeFileName);
+            if (relativePath.startsWith(SLASH)) {
+                absoluteFileNames.add(relativePath);
+            }
+            else {
+                absoluteFileNames.add(absolutePath + SLASH + relativePath);
             }
         }
 
-        return absoluteFileNames;
+        return new ArrayList<>(absoluteFileNames);
     }
 
     private String normalizePath(final String fileName) {
         return fileName.replace(BACK_SLASH, SLASH);
     }
 
+    /**
+     * A project file that has been found by a detector.
+     *
+     * @param detector
+     *         the detector that is responsible for the file
+     * @param fileName
+     *         the absolute file name of the project file
+     * @param prefix
+     *         the path prefix of all files that belong to the module
+     */
+    private record ProjectFile(AbstractModuleDetector detector, String fileName, String prefix) {
+    }
+
+    /**
+     * A node in the trie of module roots: each node represents a directory, its children are the subdirectories that
+     * contain module roots. A lookup therefore requires one map access for each segment of a path.
+     */
+    private static class ModuleRoot {
+        private final Map<String, ModuleRoot> children = new HashMap<>();
+        @CheckForNull
+        private String moduleName;
+
+        /**
+         * Adds a module root.
+         *
+         * @param prefix
+         *         the path prefix of the files of the module, i.e. the directory of the module root
+         * @param name
+         *         the name of the module
+         */
+        void add(final String prefix, final String name) {
+            var segments = StringUtils.splitPreserveAllTokens(prefix.replace('\\', SEPARATOR), SEPARATOR);
+            int depth = segments.length;
+            if (depth > 0 && segments[depth - 1].isEmpty()) {
+                depth--; // the prefix ends with a separator
+            }
+            var node = this;
+            for (int i = 0; i < depth; i++) {
+                node = node.children.computeIfAbsent(segments[i], key -> new ModuleRoot());
+            }
+            node.moduleName = name;
+        }
+
+        /**
+         * Finds the module of the innermost module root that contains the specified file.
+         *
+         * @param fullPath
+         *         the absolute path of the file, using forward slashes as separators
+         *
+         * @return a module name or an empty string
+         */
+        String findModuleName(final String fullPath) {
+            var guessedModule = StringUtils.defaultString(moduleName);
+            var node = this;
+            int start = 0;
+            for (int end = fullPath.indexOf(SEPARATOR); end >= 0; end = fullPath.indexOf(SEPARATOR, start)) {
+                node = node.children.get(fullPath.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.moduleName != null) {
+                    guessedModule = node.moduleName;
+                }
+                start = end + 1;
+            }
+            return guessedModule;
+        }
+    }
+
     /**
      * Facade for file system operations. May be replaced by stubs in test cases.
+     *
+     * <p>
+     * The project files are parsed concurrently, so the methods {@link #getLastModified(String)} and
+     * {@link #open(String)} of an implementation must be thread-safe. The method {@link #find(Path, String)} is called
+     * only once for each {@link ModuleDetectorRunner}.
+     * </p>
      */
     public interface FileSystemFacade {
         /**
@@ -146,6 +310,20 @@ public class ModuleDetectorRunner {
          */
         List<String> find(Path root, String pattern);
 
+        /**
+         * Returns the time of the last modification of the specified file. This time is used to skip parsing of
+         * project files that are part of a {@link ModuleNameCache} and have not been modified since. The default
+         * implementation returns 0, so that all project files will be parsed again.
+         *
+         * @param fileName
+         *         the file name
+         *
+         * @return the time of the last modification (in milliseconds since the epoch), or 0 if the time is unknown
+         */
+        default long getLastModified(final String fileName) {
+            return 0;
+        }
+
         /**
          * Creates an {@link InputStream} from the specified filename.
          *
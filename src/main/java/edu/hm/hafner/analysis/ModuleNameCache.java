@@ -0,0 +1,134 @@
+package edu.hm.hafner.analysis;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the module names that have been parsed from project files (e.g., {@code pom.xml} or {@code build.xml}). The
+ * entries are keyed by the file name and the time of the last modification of a project file. So the module name of a
+ * project file will be parsed again if the project file has been changed. The cache can be written to a file after
+ * the module detection and read back from this file in a subsequent build.
+ *
+ * <p>
+ * A cache that has been read from a file will only serve the module names that have been stored in this file. All
+ * module names that are requested from a cache (either from the stored entries or freshly parsed) will be written
+ * when calling {@link #write(Path)}. Project files that do not exist anymore are therefore removed from the cache.
+ * </p>
+ *
+ * @see ModuleDetectorRunner
+ */
+public class ModuleNameCache {
+    private static final char SEPARATOR = ':';
+
+    private final Map<String, CachedModuleName> storedModuleNames;
+    private final Map<String, CachedModuleName> currentModuleNames = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new empty cache.
+     */
+    public ModuleNameCache() {
+        this(new HashMap<>());
+    }
+
+    private ModuleNameCache(final Map<String, CachedModuleName> storedModuleNames) {
+        this.storedModuleNames = storedModuleNames;
+    }
+
+    /**
+     * Reads a cache from the specified file. If the file does not exist, then an empty cache will be returned.
+     *
+     * @param file
+     *         the file to read the cache from
+     *
+     * @return the cache
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public static ModuleNameCache read(final Path file) throws IOException {
+        Map<String, CachedModuleName> moduleNames = new HashMap<>();
+        if (Files.exists(file)) {
+            var properties = new Properties();
+            try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (String fileName : properties.stringPropertyNames()) {
+                var value = properties.getProperty(fileName);
+                var lastModified = StringUtils.substringBefore(value, SEPARATOR);
+                if (StringUtils.isNumeric(lastModified)) {
+                    moduleNames.put(fileName, new CachedModuleName(Long.parseLong(lastModified),
+                            StringUtils.substringAfter(value, SEPARATOR)));
+                }
+            }
+        }
+        return new ModuleNameCache(moduleNames);
+    }
+
+    /**
+     * Writes all module names that have been requested from this cache to the specified file.
+     *
+     * @param file
+     *         the file to write the cache to
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public void write(final Path file) throws IOException {
+        var properties = new Properties();
+        currentModuleNames.forEach((fileName, cached) -> properties.setProperty(fileName,
+                String.valueOf(cached.lastModified()) + SEPARATOR + cached.moduleName()));
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Module names of project files");
+        }
+    }
+
+    /**
+     * Returns the module name of the specified project file. If the project file has not been modified since its
+     * module name has been stored in this cache, then the stored module name is returned. Otherwise, the project file
+     * is parsed using the specified parser. This method may be called concurrently.
+     *
+     * @param fileName
+     *         the absolute file name of the project file
+     * @param lastModified
+     *         the time of the last modification of the project file, or 0 if unknown; in this case the project file
+     *         will be parsed in any case
+     * @param parser
+     *         the parser that obtains the module name from the project file
+     *
+     * @return the module name
+     */
+    String getModuleName(final String fileName, final long lastModified, final Function<String, String> parser) {
+        if (lastModified == 0) {
+            return parser.apply(fileName);
+        }
+
+        var stored = storedModuleNames.get(fileName);
+        if (stored != null && stored.lastModified() == lastModified) {
+            currentModuleNames.put(fileName, stored);
+            return stored.moduleName();
+        }
+        var moduleName = parser.apply(fileName);
+        currentModuleNames.put(fileName, new CachedModuleName(lastModified, moduleName));
+        return moduleName;
+    }
+
+    /**
+     * Returns the number of module names that have been requested from this cache.
+     *
+     * @return the number of module names
+     */
+    public int size() {
+        return currentModuleNames.size();
+    }
+
+    private record CachedModuleName(long lastModified, String moduleName) {
+    }
+}
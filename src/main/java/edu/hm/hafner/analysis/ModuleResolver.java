@@ -37,6 +37,7 @@ public class ModuleResolver {
         }
 
         issuesWithoutModule.forEach(issue -> issue.setModuleName(runner.guessModuleName(issue.getAbsolutePath())));
+        report.markIssuesAsModified();
         report.logInfo("-> resolved module names for %d issues", issuesWithoutModule.size());
     }
 }
@@ -7,8 +7,7 @@ import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
 
 import java.io.IOException;
 import java.nio.file.InvalidPathException;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
@@ -35,12 +34,19 @@ class OsgiModuleDetector extends AbstractModuleDetector {
     }
 
     @Override
-    void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(OSGI_BUNDLE)) {
-                addMapping(mapping, fileName, OSGI_BUNDLE, parseManifest(fileName));
-            }
+    Optional<String> getPrefix(final String fileName) {
+        return getPrefix(fileName, OSGI_BUNDLE);
+    }
+
+    @Override
+    long getLastModified(final String fileName) {
+        long lastModified = super.getLastModified(fileName);
+        if (lastModified == 0) {
+            return 0;
         }
+        var path = StringUtils.substringBefore(fileName, OSGI_BUNDLE);
+        return Math.max(lastModified, Math.max(super.getLastModified(path + SLASH + PLUGIN_PROPERTIES),
+                super.getLastModified(path + SLASH + BUNDLE_PROPERTIES)));
     }
 
     /**
@@ -51,7 +57,8 @@ class OsgiModuleDetector extends AbstractModuleDetector {
      *
      * @return the project name or an empty string if the name could not be resolved
      */
-    private String parseManifest(final String manifestFile) {
+    @Override
+    String parseModuleName(final String manifestFile) {
         try (var file = getFactory().open(manifestFile)) {
             var manifest = new Manifest(file);
             var attributes = manifest.getMainAttributes();
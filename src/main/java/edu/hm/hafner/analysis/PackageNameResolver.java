@@ -64,6 +64,7 @@ public class PackageNameResolver {
                 }
             });
         }
+        report.markIssuesAsModified();
         report.logInfo("-> resolved package names of %d affected files", filesWithoutPackageName.size());
     }
 
@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis;
 
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xml.sax.helpers.DefaultHandler;
 
 import com.google.errorprone.annotations.MustBeClosed;
@@ -14,10 +15,16 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides several useful helper methods to read the contents of a resource that is given by a {@link Reader}.
@@ -58,6 +65,18 @@ public abstract class ReaderFactory {
         this.lineMapper = REMOVE_COLOR_CODES.compose(lineMapper);
     }
 
+    /**
+     * Creates a new factory that reads another part of the resource of the specified factory. The charset and line
+     * mapper of the specified factory will be used.
+     *
+     * @param resource
+     *         the factory of the whole resource
+     */
+    protected ReaderFactory(final ReaderFactory resource) {
+        this.charset = resource.charset;
+        this.lineMapper = resource.lineMapper;
+    }
+
     /**
      * Returns the name of the resource.
      *
@@ -116,6 +135,20 @@ public abstract class ReaderFactory {
         return lineMapper != null && lineMapper != IDENTITY;
     }
 
+    /**
+     * Splits the resource into chunks that can be read independently of each other, e.g. by several threads. Each
+     * chunk contains complete lines only, and concatenating the lines of all chunks yields the lines of the whole
+     * resource. This default implementation does not split the resource and returns this factory as the only chunk.
+     *
+     * @param maximumNumberOfChunks
+     *         the maximum number of chunks to create
+     *
+     * @return the chunks, in the order of the resource
+     */
+    public List<ReaderFactory> split(final int maximumNumberOfChunks) {
+        return List.of(this);
+    }
+
     /**
      * Reads the whole file into a {@link String}.
      *
@@ -149,6 +182,97 @@ public abstract class ReaderFactory {
         }
     }
 
+    /**
+     * Reads the elements of the XML file that match the specified paths as a {@link Stream} of DOM {@link Element
+     * elements}. In contrast to {@link #readDocument()}, the file is read using a StAX pull parser: the elements are
+     * created one after another when the stream is consumed, so the memory that is required to read the file is
+     * proportional to the size of a single element and not to the size of the whole file. Each element contains its
+     * complete subtree. The ancestors of the element are available using {@link Element#getParentNode()} but contain
+     * only their attributes. Note that an element is valid only until the next element of the stream has been read.
+     *
+     * @param paths
+     *         the paths of the elements to read: absolute paths (e.g., {@code /report/issues/issue}) need to start at
+     *         the root element, relative paths (e.g., {@code issues/issue}) match at any depth of the document
+     *
+     * @return the matching elements as stream, in document order
+     * @throws ParsingException
+     *         if the file could not be parsed
+     */
+    @MustBeClosed
+    @SuppressWarnings({"MustBeClosedChecker", "PMD.CloseResource"})
+    public Stream<Element> readElements(final String... paths) {
+        var reader = create();
+        try {
+            var xmlStreamReader = new SecureXmlParserFactory().createXmlStreamReader(reader);
+            var elements = new XmlElementIterator(xmlStreamReader, this, paths);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(closeReader(xmlStreamReader::close))
+                    .onClose(closeReader(reader));
+        }
+        catch (SecureXmlParserFactory.ParsingException | IllegalArgumentException exception) {
+            closeReader(reader).run();
+            throw new ParsingException(exception, this);
+        }
+    }
+
+    /**
+     * Reads the elements of the JSON arrays that match the specified path. In contrast to parsing the whole file into
+     * a JSON model, the file is scanned without building such a model: the elements are passed to the specified
+     * handler one after another as raw JSON text, so the memory that is required to read the file is proportional to
+     * the size of a single element and not to the size of the whole file. Additionally, the handler obtains the
+     * objects that enclose the element on the path (starting with the root object). These objects contain all members
+     * but the array member of the path. Since these members might be located after the array, files with a non-empty
+     * path are read twice.
+     *
+     * @param path
+     *         the names of the array members that lead to the elements, separated by slashes (e.g.,
+     *         {@code runs/results} matches the elements of the {@code results} arrays of all objects in the
+     *         {@code runs} array of the root object); the empty path matches the elements of a root array
+     * @param handler
+     *         the handler that consumes the enclosing objects and the element
+     *
+     * @throws ParsingException
+     *         if the file could not be read or is not a valid JSON document
+     */
+    public void readJsonElements(final String path, final BiConsumer<List<String>, String> handler) {
+        new JsonElementScanner(this, path, false).scan(handler);
+    }
+
+    /**
+     * Reads the elements of the JSON arrays that match the specified path, see
+     * {@link #readJsonElements(String, BiConsumer)}. If the file does not start with an object but with an array, then
+     * the elements of this root array are read instead. The type of the root value is detected while reading the file,
+     * so files with a root array are read only once.
+     *
+     * @param path
+     *         the names of the array members that lead to the elements, separated by slashes
+     * @param handler
+     *         the handler that consumes the enclosing objects and the element
+     *
+     * @throws ParsingException
+     *         if the file could not be read or is not a valid JSON document
+     */
+    public void readJsonElementsOrRootArray(final String path, final BiConsumer<List<String>, String> handler) {
+        new JsonElementScanner(this, path, true).scan(handler);
+    }
+
+    /**
+     * Reads the root object of a JSON file without the arrays that match the specified path. Use this method to
+     * inspect the other members of a large report without reading its elements. The file is read only once.
+     *
+     * @param path
+     *         the names of the array members that lead to the elements that should be skipped, separated by slashes,
+     *         must not be empty
+     *
+     * @return the root object as raw JSON text, or an empty optional if the file does not start with an object
+     * @throws ParsingException
+     *         if the file could not be read or is not a valid JSON document
+     */
+    public Optional<String> readJsonRootObject(final String path) {
+        return new JsonElementScanner(this, path, false).scanRootObject();
+    }
+
     /**
      * Returns the character set that is used to read the stream.
      *
@@ -12,6 +12,7 @@ import edu.hm.hafner.util.Generated;
 import edu.hm.hafner.util.PathUtil;
 import edu.hm.hafner.util.TreeStringBuilder;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -25,7 +26,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -35,9 +38,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -84,6 +87,38 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private int duplicatesSize;
 
+    /**
+     * Counts the modifications of this report, i.e., added or removed issues and sub-reports as well as changed
+     * properties of the issues. The cached values of a report are valid as long as the sum of these counts in the
+     * report tree does not change, see {@link #validateCaches()}.
+     */
+    private transient long modifications;
+    /** The sum of the modifications of this report tree when the cached values have been created or updated. */
+    private transient long cachedModifications;
+
+    /**
+     * Index of all issues in this report and in all sub-reports, used to detect duplicates in constant time. The index
+     * is created on demand when sub-reports are added and discarded whenever this report tree has been modified
+     * without updating the index: sub-reports might be shared with other reports and changed there, or the hash codes
+     * of the issues might have been changed.
+     */
+    @CheckForNull
+    private transient Set<Issue> index;
+    /**
+     * Index of all issues in this report and in all sub-reports, mapped by their IDs. The index is created on demand
+     * when issues are searched or removed by ID and discarded whenever this report tree has been modified without
+     * updating the index.
+     */
+    @CheckForNull
+    private transient Map<UUID, Issue> issuesById;
+    /**
+     * Aggregated properties of all issues in this report and in all sub-reports. The statistics are created on demand
+     * and then maintained when issues are added or removed. Like the indexes, the statistics are discarded whenever
+     * this report tree has been modified without updating them.
+     */
+    @CheckForNull
+    private transient ReportStatistics statistics;
+
     /**
      * Creates an empty {@link Report}.
      */
@@ -242,7 +277,9 @@ public class Report implements Iterable<Issue>, Serializable {
         id = normalizedId;
         name = normalizedName;
         subReports.forEach(report -> report.setOrigin(normalizedId, normalizedName));
-        elements.forEach(issue -> issue.setOrigin(normalizedId, normalizedName));    }
+        elements.forEach(issue -> issue.setOrigin(normalizedId, normalizedName));
+        modifications++; // the origin is part of the hash code
+    }
 
     /**
      * Sets the origin of all issues in this report. Calling this method will associate all containing issues and issues
@@ -377,15 +414,29 @@ public class Report implements Iterable<Issue>, Serializable {
      */
     @CanIgnoreReturnValue
     public Report add(final Issue issue) {
-        if (hasId() && !issue.hasOrigin()) {
-            issue.setOrigin(id, name);
-        }
+        validateCaches();
+
+        int issueModifications = setOriginIfMissing(issue);
         if (contains(issue)) {
             duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
         }
         else {
             elements.add(issue);
+            if (index != null) {
+                index.add(issue);
+            }
+            if (issuesById != null) {
+                issuesById.putIfAbsent(issue.getId(), issue);
+            }
+            if (statistics != null) {
+                statistics.add(issue);
+            }
+        }
+        if (statistics != null) {
+            statistics.skipModifications(issueModifications);
         }
+        modifications++;
+        cachedModifications++;
 
         return this;
     }
@@ -461,31 +512,132 @@ public class Report implements Iterable<Issue>, Serializable {
             }
         }
 
+        var allIssues = getIndex();
+        int issueModifications = 0;
         for (Report report : reportsToAdd) {
             var copyWithoutDuplicates = report.copyEmptyInstance();
             for (Issue issue : report) {
-                if (contains(issue)) {
+                if (allIssues.contains(issue)) {
                     duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
                 }
                 else {
-                    copyWithoutDuplicates.add(issue);
+                    issueModifications += copyWithoutDuplicates.addWithoutDuplicateCheck(issue);
+                    allIssues.add(issue);
+                    if (issuesById != null) {
+                        issuesById.putIfAbsent(issue.getId(), issue);
+                    }
+                    if (statistics != null) {
+                        statistics.add(issue);
+                    }
                 }
             }
             subReports.add(copyWithoutDuplicates);
         }
+        if (statistics != null) {
+            statistics.skipModifications(issueModifications);
+        }
+        modifications++;
+        cachedModifications = countModifications();
 
         return this;
     }
 
+    /**
+     * Appends the specified issue to the elements of this report. The issue must not be part of the report tree that
+     * this report will be added to.
+     *
+     * @param issue
+     *         the issue to append
+     *
+     * @return the number of modifications of the issue
+     */
+    private int addWithoutDuplicateCheck(final Issue issue) {
+        int modifications = setOriginIfMissing(issue);
+        elements.add(issue);
+        return modifications;
+    }
+
+    /**
+     * Sets the origin of the specified issue to the ID and name of this report, if the issue has no origin yet.
+     *
+     * @param issue
+     *         the issue to update
+     *
+     * @return the number of modifications of the issue, see {@link ReportStatistics#skipModifications(int)}
+     */
+    private int setOriginIfMissing(final Issue issue) {
+        if (hasId() && !issue.hasOrigin()) {
+            issue.setOrigin(id, name);
+            return 1;
+        }
+        return 0;
+    }
+
     private boolean contains(final Issue issue) {
-        return elements.contains(issue) || subReportsContains(issue);
+        if (index == null && subReports.isEmpty()) {
+            return elements.contains(issue); // no need for an additional index
+        }
+        return getIndex().contains(issue);
+    }
+
+    private Set<Issue> getIndex() {
+        validateCaches();
+        if (index == null) {
+            var all = new HashSet<Issue>();
+            collectIssues(all);
+            index = all;
+        }
+        return index;
     }
 
-    private Boolean subReportsContains(final Issue issue) {
-        return subReports.stream()
-                .map(r -> r.contains(issue))
-                .reduce(Boolean::logicalOr)
-                .orElse(false);
+    private void collectIssues(final Set<Issue> all) {
+        all.addAll(elements);
+        subReports.forEach(report -> report.collectIssues(all));
+    }
+
+    /**
+     * Discards the cached values of this report if this report tree has been modified in the meantime without updating
+     * these values. Since only the modification counts of the reports in this tree are visited, this check does not
+     * depend on the number of issues.
+     */
+    private void validateCaches() {
+        long current = countModifications();
+        if (current != cachedModifications) {
+            index = null;
+            issuesById = null;
+            statistics = null;
+            cachedModifications = current;
+        }
+    }
+
+    private long countModifications() {
+        long count = modifications;
+        for (Report subReport : subReports) {
+            count += subReport.countModifications();
+        }
+        return count;
+    }
+
+    /**
+     * Marks the issues of this report and of all sub-reports as modified. Call this method after properties of the
+     * issues have been changed that are part of their hash codes (e.g., file names, package names, or module names).
+     * Cached values of this report and of all reports that contain this report will then be recreated on demand. Note
+     * that other reports that share the same issue instances are not affected.
+     */
+    void markIssuesAsModified() {
+        modifications++;
+        subReports.forEach(Report::markIssuesAsModified);
+    }
+
+    /**
+     * Returns the number of entries in the index that is used to detect duplicate issues. This index contains all
+     * issues of this report and its sub-reports. It is created on demand when other reports are added using
+     * {@link #addAll(Report...)}, so this number reflects the additional memory required by duplicate detection.
+     *
+     * @return the number of indexed issues, or 0 if the index has not been created yet
+     */
+    public int getIndexSize() {
+        return index == null ? 0 : index.size();
     }
 
     @VisibleForTesting
@@ -539,26 +691,59 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     private Optional<Issue> removeIfContained(final UUID issueId) {
-        Optional<Issue> issue = find(issueId);
-        if (issue.isPresent()) {
-            elements.remove(issue.get());
-            return issue;
+        var issue = getIssuesById().get(issueId);
+        if (issue == null) {
+            return Optional.empty();
         }
+        if (!removeElement(issue, Set::remove)) {
+            // the hash code of the issue has been changed after it has been added, search for the same instance
+            removeElement(issue, (issues, element) -> issues.removeIf(other -> other == element));
+        }
+        return Optional.of(issue);
+    }
 
-        for (Report subReport : subReports) {
-            issue = subReport.removeIfContained(issueId);
-            if (issue.isPresent()) {
-                return issue;
+    /**
+     * Removes the specified issue from the elements of this report or of the sub-report that contains it.
+     *
+     * @param issue
+     *         the issue to remove
+     * @param removal
+     *         the removal strategy that removes the issue from the elements of a single report
+     *
+     * @return {@code true} if the issue has been removed, {@code false} if no report contained the issue
+     */
+    private boolean removeElement(final Issue issue, final BiPredicate<Set<Issue>, Issue> removal) {
+        validateCaches();
+
+        boolean isRemoved = removal.test(elements, issue)
+                || subReports.stream().anyMatch(subReport -> subReport.removeElement(issue, removal));
+        if (isRemoved) {
+            removeFromIndex(issue);
+            if (issuesById != null) {
+                issuesById.remove(issue.getId());
+            }
+            if (statistics != null) {
+                statistics.remove(issue);
             }
+            modifications++;
+            cachedModifications = countModifications();
         }
+        return isRemoved;
+    }
 
-        return Optional.empty();
+    private void removeFromIndex(final Issue issue) {
+        if (index != null && !index.remove(issue)) {
+            index = null; // the hash code of the issue has been changed in the meantime
+        }
     }
 
-    private Optional<Issue> find(final UUID issueId) {
-        return elements.stream()
-                .filter(issue -> issue.getId().equals(issueId))
-                .findAny();
+    private Map<UUID, Issue> getIssuesById() {
+        validateCaches();
+        if (issuesById == null) {
+            issuesById = stream().collect(Collectors.toMap(Issue::getId, Function.identity(),
+                    (first, second) -> first, HashMap::new));
+        }
+        return issuesById;
     }
 
     /**
@@ -572,10 +757,11 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue findById(final UUID issueId) {
-        return stream().filter(issue -> issue.getId().equals(issueId))
-                .findAny()
-                .orElseThrow(() -> new NoSuchElementException(
-                        "No issue found with id %s.".formatted(issueId)));
+        var issue = getIssuesById().get(issueId);
+        if (issue == null) {
+            throw new NoSuchElementException("No issue found with id %s.".formatted(issueId));
+        }
+        return issue;
     }
 
     /**
@@ -735,7 +921,18 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
-        return stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
+        return getStatistics().getSizeOf(severity);
+    }
+
+    private ReportStatistics getStatistics() {
+        validateCaches();
+        if (statistics == null || !statistics.isUpToDate()) {
+            var created = new ReportStatistics();
+            elements.forEach(created::add);
+            subReports.forEach(report -> created.addAll(report.getStatistics()));
+            statistics = created;
+        }
+        return statistics;
     }
 
     @Override
@@ -795,7 +992,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return getStatistics().getModules();
     }
 
     /**
@@ -821,7 +1018,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return getStatistics().getPackages();
     }
 
     /**
@@ -869,7 +1066,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return getStatistics().getFiles();
     }
 
     /**
@@ -887,7 +1084,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return getStatistics().getCategories();
     }
 
     /**
@@ -905,7 +1102,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return getStatistics().getTypes();
     }
 
     /**
@@ -923,7 +1120,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the tools
      */
     public Set<String> getTools() {
-        return getProperties(Issue::getOrigin);
+        return getStatistics().getTools();
     }
 
     /**
@@ -941,7 +1138,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
-        return getProperties(Issue::getSeverity);
+        return getStatistics().getSeverities();
     }
 
     /**
@@ -1301,6 +1498,80 @@ public class Report implements Iterable<Issue>, Serializable {
         return String.valueOf(chars);
     }
 
+    /**
+     * Writes this report (and all sub-reports) using the binary format of {@link ReportCodec}.
+     *
+     * @param encoder
+     *         the encoder to write the values with
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    void writeBinary(final ReportCodec.Encoder encoder) throws IOException {
+        encoder.writeString(id);
+        encoder.writeString(name);
+        encoder.writeString(originReportFile);
+        encoder.writeString(icon);
+        encoder.writeString(parserId);
+        encoder.writeString(elementType.name());
+
+        encoder.writeStrings(infoMessages);
+        encoder.writeStrings(errorMessages);
+        encoder.writeNumber(countersByKey.size());
+        for (Map.Entry<String, Integer> counter : countersByKey.entrySet()) {
+            encoder.writeString(counter.getKey());
+            encoder.writeSignedNumber(counter.getValue());
+        }
+        encoder.writeNumber(duplicatesSize);
+
+        encoder.writeNumber(elements.size());
+        for (Issue issue : elements) {
+            encoder.writeIssue(issue);
+        }
+        encoder.writeNumber(subReports.size());
+        for (Report subReport : subReports) {
+            subReport.writeBinary(encoder);
+        }
+    }
+
+    /**
+     * Reads a report (and all sub-reports) that has been written using the binary format of {@link ReportCodec}.
+     *
+     * @param decoder
+     *         the decoder to read the values with
+     *
+     * @return the report
+     * @throws IOException
+     *         if the report could not be read
+     */
+    static Report readBinary(final ReportCodec.Decoder decoder) throws IOException {
+        var report = new Report();
+        report.id = decoder.readString();
+        report.name = decoder.readString();
+        report.originReportFile = decoder.readString();
+        report.icon = decoder.readString();
+        report.parserId = decoder.readString();
+        report.elementType = IssueType.valueOf(decoder.readString());
+
+        report.infoMessages = decoder.readStrings();
+        report.errorMessages = decoder.readStrings();
+        int counters = decoder.readNumber();
+        for (int i = 0; i < counters; i++) {
+            report.countersByKey.put(decoder.readString(), decoder.readSignedNumber());
+        }
+        report.duplicatesSize = decoder.readNumber();
+
+        int size = decoder.readNumber();
+        for (int i = 0; i < size; i++) {
+            report.elements.add(decoder.readIssue());
+        }
+        int subReportCount = decoder.readNumber();
+        for (int i = 0; i < subReportCount; i++) {
+            report.subReports.add(readBinary(decoder));
+        }
+        return report;
+    }
+
     /**
      * Returns a human-readable name for the specified {@code origin} of this report.
      *
@@ -1359,6 +1630,17 @@ public class Report implements Iterable<Issue>, Serializable {
         return countersByKey.getOrDefault(key, 0) + subReports.stream().mapToInt(r -> r.getCounter(key)).sum();
     }
 
+    /**
+     * Returns the keys of all custom counters of this report and its sub-reports.
+     *
+     * @return the keys of the counters
+     */
+    Set<String> getCounterKeys() {
+        Set<String> keys = new LinkedHashSet<>(countersByKey.keySet());
+        subReports.forEach(report -> keys.addAll(report.getCounterKeys()));
+        return keys;
+    }
+
     /**
      * Returns whether the specified custom counter of this report is defined.
      *
@@ -1377,8 +1659,16 @@ public class Report implements Iterable<Issue>, Serializable {
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private static final Function<Issue, String> FILE_NAME = Issue::getFileName;
+        private static final Function<Issue, String> PACKAGE_NAME = Issue::getPackageName;
+        private static final Function<Issue, String> MODULE_NAME = Issue::getModuleName;
+        private static final Function<Issue, String> CATEGORY = Issue::getCategory;
+        private static final Function<Issue, String> TYPE = Issue::getType;
+        private static final Function<Issue, String> MESSAGE
+                = issue -> issue.getMessage() + System.lineSeparator() + issue.getDescription();
+
+        private final Map<Function<Issue, String>, List<String>> includePatterns = new LinkedHashMap<>();
+        private final Map<Function<Issue, String>, List<String>> excludePatterns = new LinkedHashMap<>();
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -1387,7 +1677,8 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         /**
-         * Adds a new filter for each pattern string. Adds the filter either to the include or exclude list.
+         * Adds the specified patterns to the filter of the given property. Adds the patterns either to the include or
+         * exclude list. The patterns are not compiled before {@link #build()} is called.
          *
          * @param patterns
          *         filter patterns.
@@ -1399,18 +1690,11 @@ public class Report implements Iterable<Issue>, Serializable {
         private void addNewFilter(final Collection<String> patterns,
                 final Function<Issue, String> propertyToFilter,
                 final FilterType type) {
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern, Pattern.DOTALL)
-                        .matcher(propertyToFilter.apply(issueToFilter)).find() == isIncludeFilter(type));
-            }
-
-            if (isIncludeFilter(type)) {
-                includeFilters.addAll(filters);
-            }
-            else {
-                excludeFilters.addAll(filters);
+            if (patterns.isEmpty()) {
+                return;
             }
+            var patternsOfType = isIncludeFilter(type) ? includePatterns : excludePatterns;
+            patternsOfType.computeIfAbsent(propertyToFilter, k -> new ArrayList<>()).addAll(patterns);
         }
 
         private boolean isIncludeFilter(final FilterType type) {
@@ -1418,16 +1702,32 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         /**
-         * Creates a new {@link Issue} filter. Combines all includes with or and all excludes with and.
+         * Creates a new {@link Issue} filter. Combines all includes with or and all excludes with and. All patterns
+         * are compiled once: the patterns of the same property are merged into a single {@link CompiledPatternFilter}
+         * that will be reused by subsequent builds with the same patterns.
          *
          * @return {@link Issue} filter which has all added filters as filter criteria
+         * @throws java.util.regex.PatternSyntaxException
+         *         if one of the patterns is not a valid regular expression
          */
         @SuppressWarnings("NoFunctionalReturnType")
         public Predicate<Issue> build() {
+            List<Predicate<Issue>> includeFilters = new ArrayList<>();
+            includePatterns.forEach((property, patterns) -> includeFilters.add(createFilter(property, patterns)));
+            List<Predicate<Issue>> excludeFilters = new ArrayList<>();
+            excludePatterns.forEach(
+                    (property, patterns) -> excludeFilters.add(createFilter(property, patterns).negate()));
+
             return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
                     .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
         }
 
+        private Predicate<Issue> createFilter(final Function<Issue, String> property, final List<String> patterns) {
+            var filter = CompiledPatternFilter.compile(patterns);
+
+            return issue -> filter.test(property.apply(issue));
+        }
+
         //<editor-fold desc="File name">
 
         /**
@@ -1440,7 +1740,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setIncludeFileNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getFileName, FilterType.INCLUDE);
+            addNewFilter(patterns, FILE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1467,7 +1767,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setExcludeFileNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getFileName, FilterType.EXCLUDE);
+            addNewFilter(patterns, FILE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1498,7 +1798,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setIncludePackageNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getPackageName, FilterType.INCLUDE);
+            addNewFilter(patterns, PACKAGE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1525,7 +1825,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setExcludePackageNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getPackageName, FilterType.EXCLUDE);
+            addNewFilter(patterns, PACKAGE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1556,7 +1856,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setIncludeModuleNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getModuleName, FilterType.INCLUDE);
+            addNewFilter(patterns, MODULE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1583,7 +1883,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setExcludeModuleNameFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getModuleName, FilterType.EXCLUDE);
+            addNewFilter(patterns, MODULE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1614,7 +1914,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setIncludeCategoryFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getCategory, FilterType.INCLUDE);
+            addNewFilter(patterns, CATEGORY, FilterType.INCLUDE);
             return this;
         }
 
@@ -1641,7 +1941,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setExcludeCategoryFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getCategory, FilterType.EXCLUDE);
+            addNewFilter(patterns, CATEGORY, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1672,7 +1972,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setIncludeTypeFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getType, FilterType.INCLUDE);
+            addNewFilter(patterns, TYPE, FilterType.INCLUDE);
             return this;
         }
 
@@ -1699,7 +1999,7 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @CanIgnoreReturnValue
         public IssueFilterBuilder setExcludeTypeFilter(final Collection<String> patterns) {
-            addNewFilter(patterns, Issue::getType, FilterType.EXCLUDE);
+            addNewFilter(patterns, TYPE, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1775,8 +2075,7 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         private void addMessageFilter(final Collection<String> patterns, final FilterType filterType) {
-            addNewFilter(patterns, issue -> "%s%n%s".formatted(issue.getMessage(), issue.getDescription()),
-                    filterType);
+            addNewFilter(patterns, MESSAGE, filterType);
         }
         //</editor-fold>
     }
@@ -0,0 +1,385 @@
+package edu.hm.hafner.analysis;
+
+import edu.hm.hafner.util.TreeString;
+import edu.hm.hafner.util.TreeStringBuilder;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads and writes {@link Report reports} using a compact and versioned binary format. In contrast to Java
+ * serialization, this format stores each distinct string only once per report (categories, types, file names, origins,
+ * or messages are highly repetitive in static analysis reports), encodes numbers as variable length integers, and
+ * writes IDs as two long values. Only the additional properties of issues are still written using Java serialization.
+ *
+ * <p>
+ * The format starts with a magic number and a version number, so that older versions can be detected when the format
+ * is changed.
+ * </p>
+ */
+public class ReportCodec {
+    private static final int MAGIC = 0x414D_5242; // "AMRB"
+    private static final int VERSION = 1;
+
+    /**
+     * Writes the specified report to the specified output stream. The stream will be flushed but not closed.
+     *
+     * @param report
+     *         the report to write
+     * @param output
+     *         the output stream to write to
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    public void write(final Report report, final OutputStream output) throws IOException {
+        var encoder = new Encoder(new DataOutputStream(new BufferedOutputStream(output)));
+        encoder.output.writeInt(MAGIC);
+        encoder.writeNumber(VERSION);
+        report.writeBinary(encoder);
+        encoder.output.flush();
+    }
+
+    /**
+     * Reads a report from the specified input stream. The stream will not be closed. Note that the stream is buffered
+     * internally, so it might be consumed beyond the end of the report.
+     *
+     * @param input
+     *         the input stream to read from
+     *
+     * @return the report
+     * @throws IOException
+     *         if the report could not be read or if the stream does not contain a report in a supported format
+     */
+    public Report read(final InputStream input) throws IOException {
+        var decoder = new Decoder(new DataInputStream(new BufferedInputStream(input)));
+        if (decoder.input.readInt() != MAGIC) {
+            throw new IOException("Input does not contain a binary report");
+        }
+        int version = decoder.readNumber();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version %d of binary report format".formatted(version));
+        }
+        var report = Report.readBinary(decoder);
+        decoder.builder.dedup();
+        return report;
+    }
+
+    /**
+     * Converts the specified report to a byte array.
+     *
+     * @param report
+     *         the report to convert
+     *
+     * @return the report in the binary format
+     */
+    public byte[] toBytes(final Report report) {
+        try (var output = new ByteArrayOutputStream()) {
+            write(report, output);
+            return output.toByteArray();
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Can't write report " + report, exception);
+        }
+    }
+
+    /**
+     * Converts the specified byte array to a report.
+     *
+     * @param bytes
+     *         the report in the binary format
+     *
+     * @return the report
+     */
+    public Report fromBytes(final byte[] bytes) {
+        try (var input = new ByteArrayInputStream(bytes)) {
+            return read(input);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException("Can't read report with " + bytes.length + " bytes", exception);
+        }
+    }
+
+    /**
+     * Writes the primitive values of a report. Strings are written only once: subsequent occurrences of a string
+     * refer to the index of the first occurrence. Subclasses may override {@link #writeString(String)} to store the
+     * strings elsewhere, see {@link MappedReport}.
+     */
+    static class Encoder {
+        private final DataOutputStream output;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Encoder(final DataOutputStream output) {
+            this.output = output;
+        }
+
+        void writeNumber(final int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                output.writeByte(remaining & 0x7F | 0x80);
+                remaining >>>= 7;
+            }
+            output.writeByte(remaining);
+        }
+
+        void writeSignedNumber(final int value) throws IOException {
+            writeNumber(value << 1 ^ value >> 31);
+        }
+
+        void writeString(final String value) throws IOException {
+            var index = strings.get(value);
+            if (index == null) {
+                strings.put(value, strings.size());
+                writeNumber(0);
+                writeText(value);
+            }
+            else {
+                writeNumber(index + 1);
+            }
+        }
+
+        /**
+         * Writes the characters of the specified string. Strings are encoded in UTF-8 and prefixed with the number of
+         * bytes. Since UTF-8 cannot represent unpaired surrogates, such (rare) strings are written as UTF-16 code
+         * units. The lowest bit of the prefix marks the encoding.
+         *
+         * @param value
+         *         the string to write
+         *
+         * @throws IOException
+         *         if the string could not be written
+         */
+        void writeText(final String value) throws IOException {
+            if (isWellFormed(value)) {
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeNumber(bytes.length << 1);
+                output.write(bytes);
+            }
+            else {
+                writeNumber(value.length() << 1 | 1);
+                output.writeChars(value);
+            }
+        }
+
+        private static boolean isWellFormed(final String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                }
+                else if (Character.isSurrogate(c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void writeStrings(final Collection<String> values) throws IOException {
+            writeNumber(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeIssue(final Issue issue) throws IOException {
+            writeString(issue.getPath());
+            var locations = issue.getLocations();
+            writeNumber(locations.size());
+            for (Location location : locations) {
+                writeString(location.getFileName());
+                writeSignedNumber(location.getLineStart());
+                writeSignedNumber(location.getLineEnd() - location.getLineStart());
+                writeSignedNumber(location.getColumnStart());
+                writeSignedNumber(location.getColumnEnd());
+            }
+            writeString(issue.getCategory());
+            writeString(issue.getType());
+            writeString(issue.getPackageName());
+            writeString(issue.getModuleName());
+            writeString(issue.getSeverity().getName());
+            writeString(issue.getMessage());
+            writeString(issue.getDescription());
+            writeString(issue.getOrigin());
+            writeString(issue.getOriginName());
+            writeString(issue.getReference());
+            writeString(issue.getFingerprint());
+            writeAdditionalProperties(issue.getAdditionalProperties());
+            output.writeLong(issue.getId().getMostSignificantBits());
+            output.writeLong(issue.getId().getLeastSignificantBits());
+        }
+
+        private void writeAdditionalProperties(@CheckForNull final Serializable additionalProperties)
+                throws IOException {
+            if (additionalProperties == null) {
+                writeNumber(0);
+            }
+            else {
+                try (var bytes = new ByteArrayOutputStream(); var objects = new ObjectOutputStream(bytes)) {
+                    objects.writeObject(additionalProperties);
+                    objects.flush();
+                    writeNumber(bytes.size() + 1);
+                    bytes.writeTo(output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the primitive values of a report that have been written by an {@link Encoder}. Subclasses that override
+     * {@link Encoder#writeString(String)} need to override {@link #readString()} and {@link #readTreeString()} as
+     * well.
+     */
+    static class Decoder {
+        private final DataInputStream input;
+        private final List<String> strings = new ArrayList<>();
+        private final List<TreeString> treeStrings = new ArrayList<>();
+        private final TreeStringBuilder builder = new TreeStringBuilder();
+
+        Decoder(final DataInputStream input) {
+            this.input = input;
+        }
+
+        int readNumber() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int next = input.readUnsignedByte();
+                value |= (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed number in binary report");
+        }
+
+        int readSignedNumber() throws IOException {
+            int value = readNumber();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        String readString() throws IOException {
+            return strings.get(readStringIndex());
+        }
+
+        private int readStringIndex() throws IOException {
+            int index = readNumber();
+            if (index == 0) {
+                strings.add(readText());
+                treeStrings.add(null);
+                return strings.size() - 1;
+            }
+            if (index > strings.size()) {
+                throw new IOException("Malformed string reference in binary report: " + index);
+            }
+            return index - 1;
+        }
+
+        /**
+         * Reads the characters of a string that have been written by {@link Encoder#writeText(String)}.
+         *
+         * @return the string
+         * @throws IOException
+         *         if the string could not be read
+         */
+        String readText() throws IOException {
+            int header = readNumber();
+            int length = header >>> 1;
+            if ((header & 1) == 0) {
+                var bytes = new byte[length];
+                input.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+            var chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = input.readChar();
+            }
+            return new String(chars);
+        }
+
+        @SuppressWarnings("NullAway")
+        TreeString readTreeString() throws IOException {
+            int index = readStringIndex();
+            var treeString = treeStrings.get(index);
+            if (treeString == null) {
+                treeString = builder.intern(strings.get(index));
+                treeStrings.set(index, treeString);
+            }
+            return treeString;
+        }
+
+        List<String> readStrings() throws IOException {
+            int size = readNumber();
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        Issue readIssue() throws IOException {
+            var path = readString();
+            int size = readNumber();
+            List<Location> locations = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                var fileName = readTreeString();
+                int lineStart = readSignedNumber();
+                int lineEnd = lineStart + readSignedNumber();
+                locations.add(new Location(fileName, lineStart, lineEnd, readSignedNumber(), readSignedNumber()));
+            }
+            var category = readString();
+            var type = readString();
+            var packageName = readTreeString();
+            var moduleName = readString();
+            var severity = Severity.valueOf(readString());
+            var message = readTreeString();
+            var description = readString();
+            var origin = readString();
+            var originName = readString();
+            var reference = readString();
+            var fingerprint = readString();
+            var additionalProperties = readAdditionalProperties();
+            var id = new UUID(input.readLong(), input.readLong());
+
+            return new Issue(path, locations, category, type, packageName, moduleName, severity,
+                    message, description, origin, originName, reference, fingerprint, additionalProperties, id);
+        }
+
+        @CheckForNull
+        @SuppressFBWarnings("OBJECT_DESERIALIZATION")
+        @SuppressWarnings("BanSerializableRead")
+        private Serializable readAdditionalProperties() throws IOException {
+            int length = readNumber();
+            if (length == 0) {
+                return null;
+            }
+            var bytes = new byte[length - 1];
+            input.readFully(bytes);
+            try (var objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                return (Serializable) objects.readObject();
+            }
+            catch (ClassNotFoundException exception) {
+                throw new IOException("Can't read additional properties of issue", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package edu.hm.hafner.analysis;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aggregated properties of the issues of a {@link Report}: the number of issues per severity and the multisets of the
+ * distinct modules, packages, files, categories, types, and tools. These statistics are maintained incrementally when
+ * issues are added or removed, so that queries do not need to visit all issues of a report.
+ *
+ * <p>
+ * Modules, packages, files, and tools are mutable properties of an {@link Issue}. Therefore, these statistics store
+ * the {@link Issue#getModificationCount() modification count} of issues that was valid when the statistics have been
+ * created. If issues have been modified afterward, then the statistics are outdated and need to be recreated.
+ * </p>
+ */
+class ReportStatistics {
+    private final Map<Severity, Integer> severities = new HashMap<>();
+    private final Map<String, Integer> modules = new HashMap<>();
+    private final Map<String, Integer> packages = new HashMap<>();
+    private final Map<String, Integer> files = new HashMap<>();
+    private final Map<String, Integer> categories = new HashMap<>();
+    private final Map<String, Integer> types = new HashMap<>();
+    private final Map<String, Integer> tools = new HashMap<>();
+
+    private long modificationCount = Issue.getModificationCount();
+
+    /**
+     * Returns whether these statistics still reflect the properties of the counted issues.
+     *
+     * @return {@code true} if no issue has been modified since these statistics have been created, {@code false}
+     *         otherwise
+     */
+    boolean isUpToDate() {
+        return modificationCount == Issue.getModificationCount();
+    }
+
+    /**
+     * Skips the specified number of modifications of issues when checking if these statistics are up-to-date. A
+     * report calls this method if it has modified the issues itself and already has updated these statistics
+     * accordingly. If other issues have been modified in the meantime, then these statistics remain outdated.
+     *
+     * @param count
+     *         the number of modifications to skip
+     */
+    void skipModifications(final int count) {
+        if (modificationCount + count == Issue.getModificationCount()) {
+            modificationCount += count;
+        }
+    }
+
+    void add(final Issue issue) {
+        increment(severities, issue.getSeverity(), 1);
+        increment(modules, issue.getModuleName(), 1);
+        increment(packages, issue.getPackageName(), 1);
+        increment(files, issue.getFileName(), 1);
+        increment(categories, issue.getCategory(), 1);
+        increment(types, issue.getType(), 1);
+        increment(tools, issue.getOrigin(), 1);
+    }
+
+    void addAll(final ReportStatistics other) {
+        other.severities.forEach((severity, count) -> increment(severities, severity, count));
+        other.modules.forEach((module, count) -> increment(modules, module, count));
+        other.packages.forEach((packageName, count) -> increment(packages, packageName, count));
+        other.files.forEach((file, count) -> increment(files, file, count));
+        other.categories.forEach((category, count) -> increment(categories, category, count));
+        other.types.forEach((type, count) -> increment(types, type, count));
+        other.tools.forEach((tool, count) -> increment(tools, tool, count));
+        modificationCount = Math.min(modificationCount, other.modificationCount);
+    }
+
+    void remove(final Issue issue) {
+        decrement(severities, issue.getSeverity());
+        decrement(modules, issue.getModuleName());
+        decrement(packages, issue.getPackageName());
+        decrement(files, issue.getFileName());
+        decrement(categories, issue.getCategory());
+        decrement(types, issue.getType());
+        decrement(tools, issue.getOrigin());
+    }
+
+    private static <T> void increment(final Map<T, Integer> counts, final T value, final int count) {
+        counts.merge(value, count, Integer::sum);
+    }
+
+    private static <T> void decrement(final Map<T, Integer> counts, final T value) {
+        counts.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    int getSizeOf(final Severity severity) {
+        return severities.getOrDefault(severity, 0);
+    }
+
+    Set<Severity> getSeverities() {
+        return new HashSet<>(severities.keySet());
+    }
+
+    Set<String> getModules() {
+        return new HashSet<>(modules.keySet());
+    }
+
+    Set<String> getPackages() {
+        return new HashSet<>(packages.keySet());
+    }
+
+    Set<String> getFiles() {
+        return new HashSet<>(files.keySet());
+    }
+
+    Set<String> getCategories() {
+        return new HashSet<>(categories.keySet());
+    }
+
+    Set<String> getTypes() {
+        return new HashSet<>(types.keySet());
+    }
+
+    Set<String> getTools() {
+        return new HashSet<>(tools.keySet());
+    }
+}
@@ -0,0 +1,337 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Extracts literal substrings from a regular expression that are required by every match. If a line contains none of
+ * the extracted literals, then the regular expression cannot find a match in this line. Checking for the literals with
+ * {@link String#contains(CharSequence)} is much faster than running the regular expression (which often contains
+ * several backtracking constructs like {@code .*}).
+ *
+ * <p>
+ * The extraction is conservative: constructs that are not fully understood (case-insensitive or comments flags,
+ * quotations, back references, or characters outside the basic multilingual plane) yield no literals at all. Then every
+ * line needs to be matched by the regular expression.
+ * </p>
+ */
+final class RequiredLiterals {
+    private static final int MINIMUM_LENGTH = 2;
+    private static final int MAXIMUM_ALTERNATIVES = 8;
+
+    private final String regex;
+    private int position;
+
+    /**
+     * Extracts the literals that are required by every match of the specified regular expression.
+     *
+     * @param regex
+     *         the regular expression
+     *
+     * @return the required literals: a line that matches the regular expression contains at least one of these
+     *         literals. If the list is empty, then no such literals have been found.
+     */
+    static List<String> extract(final String regex) {
+        try {
+            var parser = new RequiredLiterals(regex);
+            var requirements = parser.combine(parser.parseAlternatives());
+            if (parser.position != regex.length()) {
+                return List.of();
+            }
+            return requirements.stream()
+                    .filter(anyOf -> anyOf.size() <= MAXIMUM_ALTERNATIVES)
+                    .max(Comparator.comparingInt(RequiredLiterals::getShortestLength))
+                    .filter(anyOf -> getShortestLength(anyOf) >= MINIMUM_LENGTH)
+                    .map(List::copyOf)
+                    .orElse(List.of());
+        }
+        catch (UnsupportedConstructException exception) {
+            return List.of(); // fall back to the regular expression
+        }
+    }
+
+    private static int getShortestLength(final Set<String> anyOf) {
+        return anyOf.stream().mapToInt(String::length).min().orElse(0);
+    }
+
+    private RequiredLiterals(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Parses a sequence of alternatives until the end of the expression or the end of the current group.
+     *
+     * @return the requirements of each alternative: every element of a requirement list must be satisfied, a single
+     *         requirement is satisfied if any of its literals is found
+     */
+    private List<List<Set<String>>> parseAlternatives() {
+        List<List<Set<String>>> alternatives = new ArrayList<>();
+        alternatives.add(parseSequence());
+        while (hasNext() && peek() == '|') {
+            position++;
+            alternatives.add(parseSequence());
+        }
+        return alternatives;
+    }
+
+    private List<Set<String>> combine(final List<List<Set<String>>> alternatives) {
+        if (alternatives.size() == 1) {
+            return alternatives.get(0);
+        }
+        Set<String> anyOf = new LinkedHashSet<>();
+        for (List<Set<String>> alternative : alternatives) {
+            var best = alternative.stream().max(Comparator.comparingInt(RequiredLiterals::getShortestLength));
+            if (best.isEmpty()) {
+                return List.of(); // this alternative does not require any literal
+            }
+            anyOf.addAll(best.get());
+        }
+        return List.of(anyOf);
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private List<Set<String>> parseSequence() {
+        List<Set<String>> requirements = new ArrayList<>();
+        var literal = new StringBuilder();
+        while (hasNext() && peek() != '|' && peek() != ')') {
+            char c = peek();
+            if (Character.isSurrogate(c)) {
+                throw new UnsupportedConstructException("Code points outside the BMP are not supported");
+            }
+            if (c == '\\' && isLiteralEscape()) {
+                char escaped = charAt(position + 1);
+                position += 2;
+                appendLiteral(literal, escaped, requirements);
+            }
+            else if (c == '\\') {
+                flush(literal, requirements);
+                skipEscape();
+                skipQuantifier();
+            }
+            else if (c == '[') {
+                flush(literal, requirements);
+                skipCharacterClass();
+                skipQuantifier();
+            }
+            else if (c == '(') {
+                flush(literal, requirements);
+                parseGroup(requirements);
+            }
+            else if (c == '.' || c == '^' || c == '$') {
+                flush(literal, requirements);
+                position++;
+                skipQuantifier();
+            }
+            else if (c == '*' || c == '+' || c == '?' || c == '{') {
+                throw new UnsupportedConstructException("Dangling quantifier");
+            }
+            else {
+                position++;
+                appendLiteral(literal, c, requirements);
+            }
+        }
+        flush(literal, requirements);
+        return requirements;
+    }
+
+    private void appendLiteral(final StringBuilder literal, final char c, final List<Set<String>> requirements) {
+        if (isOptionalQuantifier()) {
+            flush(literal, requirements);
+            skipQuantifier();
+        }
+        else if (isQuantifier()) {
+            literal.append(c);
+            flush(literal, requirements);
+            skipQuantifier();
+        }
+        else {
+            literal.append(c);
+        }
+    }
+
+    private void flush(final StringBuilder literal, final List<Set<String>> requirements) {
+        if (literal.length() > 0) {
+            requirements.add(Set.of(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private void parseGroup(final List<Set<String>> requirements) {
+        position++; // (
+        boolean isLookaround = false;
+        if (peek() == '?') {
+            position++;
+            char type = peek();
+            if (type == ':' || type == '>') {
+                position++;
+            }
+            else if (type == '=' || type == '!') {
+                position++;
+                isLookaround = true;
+            }
+            else if (type == '<' && (charAt(position + 1) == '=' || charAt(position + 1) == '!')) {
+                position += 2;
+                isLookaround = true;
+            }
+            else if (type == '<') {
+                position = indexOf('>') + 1; // named group
+            }
+            else if (parseFlags()) {
+                return; // flags for the remaining expression, not a group
+            }
+        }
+        var alternatives = parseAlternatives();
+        if (!hasNext() || peek() != ')') {
+            throw new UnsupportedConstructException("Unbalanced group");
+        }
+        position++;
+        boolean isOptional = isOptionalQuantifier();
+        skipQuantifier();
+        if (!isLookaround && !isOptional) {
+            requirements.addAll(combine(alternatives));
+        }
+    }
+
+    /**
+     * Parses inline flags like {@code (?s)} or {@code (?s:X)}.
+     *
+     * @return {@code true} if the flags apply to the remaining expression, {@code false} if the flags apply to the
+     *         following group
+     */
+    private boolean parseFlags() {
+        while (peek() != ')' && peek() != ':') {
+            char flag = peek();
+            if (flag == 'i' || flag == 'x') {
+                throw new UnsupportedConstructException("Case insensitive or comments mode is not supported");
+            }
+            position++;
+        }
+        return charAt(position++) == ')';
+    }
+
+    private boolean isLiteralEscape() {
+        return !Character.isLetterOrDigit(charAt(position + 1));
+    }
+
+    private void skipEscape() {
+        position++; // backslash
+        char escape = charAt(position++);
+        if (escape >= '1' && escape <= '9' || escape == 'k' || escape == 'Q') {
+            throw new UnsupportedConstructException("Back references and quotations are not supported");
+        }
+        else if (escape == '0') {
+            while (hasNext() && peek() >= '0' && peek() <= '7') {
+                position++;
+            }
+        }
+        else if (hasNext() && peek() == '{' && (escape == 'p' || escape == 'P' || escape == 'x' || escape == 'N')) {
+            position = indexOf('}') + 1;
+        }
+        else if (escape == 'p' || escape == 'P' || escape == 'c') {
+            skip(1);
+        }
+        else if (escape == 'x') {
+            skip(2);
+        }
+        else if (escape == 'u') {
+            skip(4);
+        }
+    }
+
+    private void skipCharacterClass() {
+        position++; // [
+        if (peek() == '^') {
+            position++;
+        }
+        if (peek() == ']') {
+            position++; // a leading bracket is a literal
+        }
+        int depth = 1;
+        while (depth > 0) {
+            char c = charAt(position++);
+            if (c == '\\' && charAt(position) == 'Q') {
+                throw new UnsupportedConstructException("Quotations are not supported");
+            }
+            else if (c == '\\') {
+                position++;
+            }
+            else if (c == '[') {
+                depth++;
+            }
+            else if (c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    private boolean isQuantifier() {
+        return hasNext() && (peek() == '*' || peek() == '+' || peek() == '?' || peek() == '{');
+    }
+
+    private boolean isOptionalQuantifier() {
+        if (!hasNext()) {
+            return false;
+        }
+        char c = peek();
+        return c == '*' || c == '?' || c == '{' && charAt(position + 1) == '0';
+    }
+
+    private void skipQuantifier() {
+        if (!isQuantifier()) {
+            return;
+        }
+        if (peek() == '{') {
+            position = indexOf('}');
+        }
+        position++;
+        if (hasNext() && (peek() == '?' || peek() == '+')) {
+            position++; // reluctant or possessive
+        }
+    }
+
+    private boolean hasNext() {
+        return position < regex.length();
+    }
+
+    private char peek() {
+        return charAt(position);
+    }
+
+    private char charAt(final int index) {
+        if (index >= regex.length()) {
+            throw new UnsupportedConstructException("Incomplete regular expression");
+        }
+        return regex.charAt(index);
+    }
+
+    private int indexOf(final char c) {
+        int index = regex.indexOf(c, position);
+        if (index < 0) {
+            throw new UnsupportedConstructException("Missing '" + c + "'");
+        }
+        return index;
+    }
+
+    private void skip(final int count) {
+        if (position + count > regex.length()) {
+            throw new UnsupportedConstructException("Incomplete escape sequence");
+        }
+        position += count;
+    }
+
+    /**
+     * Thrown if the regular expression contains a construct that is not supported by the extraction of literals.
+     */
+    private static final class UnsupportedConstructException extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedConstructException(final String message) {
+            super(message);
+        }
+    }
+}
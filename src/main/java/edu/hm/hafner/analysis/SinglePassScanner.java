@@ -0,0 +1,195 @@
+package edu.hm.hafner.analysis;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.LookaheadStream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Scans a report file with several {@link LookaheadParser} instances in a single pass. The report file is read and
+ * decoded only once: each line is handed over to all parsers. Every parser uses its own {@link LookaheadStream} and
+ * {@link IssueBuilder}, so parsers that consume additional lines or track the current directory are not affected by
+ * the other parsers. Lines are buffered only as long as not all parsers have consumed them, i.e., the buffer is limited
+ * by the maximum number of lines a single parser consumes while creating an issue.
+ */
+public class SinglePassScanner {
+    private final List<LookaheadParser> parsers = new ArrayList<>();
+
+    /**
+     * Creates a new instance of {@link SinglePassScanner}.
+     *
+     * @param parsers
+     *         the parsers that should scan the report file
+     */
+    public SinglePassScanner(final Collection<? extends LookaheadParser> parsers) {
+        Ensure.that(parsers).isNotEmpty("No parsers given.");
+
+        this.parsers.addAll(parsers);
+    }
+
+    /**
+     * Scans the specified report file with all parsers. The returned reports are equal to the reports that would have
+     * been created by calling {@link IssueParser#parse(ReaderFactory)} for each of the parsers.
+     *
+     * @param readerFactory
+     *         factory to read the report file
+     *
+     * @return the reports of all parsers, in the same order as the parsers
+     * @throws ParsingException
+     *         signals that during parsing a non-recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         signals that the user has aborted the parsing
+     */
+    public List<Report> scan(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        List<Scan> scans = new ArrayList<>();
+        try (Stream<String> lines = readerFactory.readStream()) {
+            var sharedLines = new SharedLines(lines.iterator());
+            for (LookaheadParser parser : parsers) {
+                scans.add(new Scan(parser, sharedLines, readerFactory.getFileName()));
+            }
+
+            scanLines(scans, sharedLines);
+        }
+        finally {
+            scans.forEach(Scan::close);
+        }
+
+        List<Report> reports = new ArrayList<>();
+        for (Scan scan : scans) {
+            reports.add(scan.createReport(readerFactory.getFileName()));
+        }
+        return reports;
+    }
+
+    private void scanLines(final List<Scan> scans, final SharedLines sharedLines) {
+        long line = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            hasNext = false;
+            long firstUsedLine = Long.MAX_VALUE;
+            for (Scan scan : scans) {
+                if (scan.getPosition() <= line && scan.hasNext()) {
+                    scan.parseNextLine(); // parsers that consumed more lines wait until the others caught up
+                }
+                hasNext |= scan.hasNext();
+                firstUsedLine = Math.min(firstUsedLine, scan.getPosition());
+            }
+            sharedLines.release(firstUsedLine);
+            line++;
+        }
+    }
+
+    /**
+     * The state of a single parser while scanning the report file.
+     */
+    private static final class Scan {
+        private final LookaheadParser parser;
+        private final Cursor cursor;
+        private final LookaheadStream lookahead;
+        private final IssueBuilder builder = new IssueBuilder();
+        private final Report report = new Report();
+
+        @SuppressWarnings("MustBeClosedChecker")
+        Scan(final LookaheadParser parser, final SharedLines sharedLines, final String fileName) {
+            this.parser = parser;
+
+            cursor = new Cursor(sharedLines);
+            lookahead = new LookaheadStream(StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false), fileName);
+        }
+
+        long getPosition() {
+            return cursor.position;
+        }
+
+        boolean hasNext() {
+            return lookahead.hasNext();
+        }
+
+        void parseNextLine() {
+            parser.parseNextLine(report, lookahead, builder);
+        }
+
+        Report createReport(final String fileName) {
+            var postProcessed = parser.postProcess(report);
+            postProcessed.setOrigin(parser.getId(), parser.getName(), parser.getType(), fileName);
+            return postProcessed;
+        }
+
+        void close() {
+            lookahead.close();
+            builder.close();
+        }
+    }
+
+    /**
+     * The lines of the report file that are shared by all parsers. Lines are read on demand and are kept until all
+     * parsers have consumed them.
+     */
+    private static final class SharedLines {
+        private final Iterator<String> source;
+        private final List<String> buffer = new ArrayList<>();
+        private long firstBufferedLine;
+
+        SharedLines(final Iterator<String> source) {
+            this.source = source;
+        }
+
+        boolean hasLine(final long line) {
+            while (line >= firstBufferedLine + buffer.size()) {
+                if (!source.hasNext()) {
+                    return false;
+                }
+                buffer.add(source.next());
+            }
+            return true;
+        }
+
+        String getLine(final long line) {
+            if (!hasLine(line)) {
+                throw new NoSuchElementException("No line " + line);
+            }
+            return buffer.get(Math.toIntExact(line - firstBufferedLine));
+        }
+
+        void release(final long firstUsedLine) {
+            int unused = Math.toIntExact(Math.min(firstUsedLine - firstBufferedLine, buffer.size()));
+            if (unused > 0) {
+                buffer.subList(0, unused).clear();
+                firstBufferedLine += unused;
+            }
+        }
+    }
+
+    /**
+     * Iterates over the shared lines of the report file. Each parser uses its own cursor.
+     */
+    private static final class Cursor implements Iterator<String> {
+        private final SharedLines lines;
+        private long position;
+
+        Cursor(final SharedLines lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.hasLine(position);
+        }
+
+        @Override
+        public String next() {
+            var line = lines.getLine(position);
+            position++;
+            return line;
+        }
+    }
+}
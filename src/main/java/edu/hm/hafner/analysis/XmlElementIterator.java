@@ -0,0 +1,219 @@
+package edu.hm.hafner.analysis;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of an XML document that match a given set of paths using a StAX {@link XMLStreamReader}. Each
+ * matching element is returned as a DOM {@link Element} that contains the whole subtree of the element. The ancestors
+ * of the element are available as well (using {@link Node#getParentNode()}), but they contain only their attributes
+ * (including the namespace declarations) and the path to the current element. So the memory that is required to read
+ * a document is proportional to the size of a single matching element, and not to the size of the whole document.
+ *
+ * <p>
+ * A returned element will be detached from its ancestors as soon as the next element is requested.
+ * </p>
+ */
+class XmlElementIterator implements Iterator<Element> {
+    private static final String SEPARATOR = "/";
+    private static final String XMLNS = "xmlns";
+
+    private final XMLStreamReader reader;
+    private final ReaderFactory readerFactory;
+    private final List<String[]> relativePaths = new ArrayList<>();
+    private final List<String[]> absolutePaths = new ArrayList<>();
+    private final Document document;
+    private final List<Element> ancestors = new ArrayList<>();
+
+    @CheckForNull
+    private Element next;
+    @CheckForNull
+    private Element current;
+
+    /**
+     * Creates a new iterator for the elements of the specified XML stream.
+     *
+     * @param reader
+     *         the XML stream
+     * @param readerFactory
+     *         the factory that created the stream, used for error messages
+     * @param paths
+     *         the paths of the elements to read: absolute paths (e.g., {@code /report/issues/issue}) need to start at
+     *         the root element, relative paths (e.g., {@code issues/issue}) match at any depth of the document
+     */
+    XmlElementIterator(final XMLStreamReader reader, final ReaderFactory readerFactory, final String... paths) {
+        this.reader = reader;
+        this.readerFactory = readerFactory;
+
+        for (String path : paths) {
+            var segments = StringUtils.split(path, SEPARATOR);
+            if (path.startsWith(SEPARATOR)) {
+                absolutePaths.add(segments);
+            }
+            else {
+                relativePaths.add(segments);
+            }
+        }
+        try {
+            document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        }
+        catch (ParserConfigurationException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNextElement();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Element next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more elements in " + readerFactory.getFileName());
+        }
+        var element = next;
+        next = null;
+        current = element;
+        return element;
+    }
+
+    @CheckForNull
+    private Element readNextElement() {
+        if (current != null) {
+            detach(current);
+            current = null;
+        }
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    var element = createElement();
+                    getParent().appendChild(element);
+                    ancestors.add(element);
+                    if (matches()) {
+                        readChildren(element);
+                        ancestors.remove(ancestors.size() - 1);
+                        return element;
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    detach(ancestors.remove(ancestors.size() - 1));
+                }
+            }
+            return null;
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    private Node getParent() {
+        if (ancestors.isEmpty()) {
+            return document;
+        }
+        return ancestors.get(ancestors.size() - 1);
+    }
+
+    private void detach(final Element element) {
+        element.getParentNode().removeChild(element);
+    }
+
+    private boolean matches() {
+        for (String[] path : absolutePaths) {
+            if (path.length == ancestors.size() && endsWith(path)) {
+                return true;
+            }
+        }
+        for (String[] path : relativePaths) {
+            if (path.length <= ancestors.size() && endsWith(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean endsWith(final String[] path) {
+        int offset = ancestors.size() - path.length;
+        for (int i = 0; i < path.length; i++) {
+            if (!path[i].equals(ancestors.get(offset + i).getTagName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readChildren(final Element element) throws XMLStreamException {
+        Node parent = element;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    var child = createElement();
+                    parent.appendChild(child);
+                    parent = child;
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (parent == element) {
+                        return;
+                    }
+                    parent = parent.getParentNode();
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        appendText(parent, reader.getText());
+                default -> {
+                    // ignore comments and processing instructions
+                }
+            }
+        }
+    }
+
+    private void appendText(final Node parent, final String text) {
+        if (parent.getLastChild() instanceof Text previous) {
+            previous.appendData(text); // the stream reader might split text into several events
+        }
+        else {
+            parent.appendChild(document.createTextNode(text));
+        }
+    }
+
+    private Element createElement() {
+        var element = document.createElement(getQualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            var prefix = reader.getNamespacePrefix(i);
+            element.setAttribute(StringUtils.isEmpty(prefix) ? XMLNS : XMLNS + ":" + prefix,
+                    reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(getQualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    private String getQualifiedName(@CheckForNull final String prefix, final String localName) {
+        if (StringUtils.isEmpty(prefix)) {
+            return localName;
+        }
+        return prefix + ":" + localName;
+    }
+}
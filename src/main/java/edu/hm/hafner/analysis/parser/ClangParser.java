@@ -31,6 +31,11 @@ public class ClangParser extends LookaheadParser {
         super(CLANG_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isStatelessPerLine() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
@@ -31,6 +31,11 @@ public class ClangTidyParser extends LookaheadParser {
         super(CLANG_TIDY_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isStatelessPerLine() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
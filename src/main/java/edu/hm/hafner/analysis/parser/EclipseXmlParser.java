@@ -1,11 +1,6 @@
 package edu.hm.hafner.analysis.parser;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import edu.hm.hafner.analysis.Categories;
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -52,39 +47,24 @@ public class EclipseXmlParser extends IssueParser {
 
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        try (var issueBuilder = new IssueBuilder()) {
-            var doc = readerFactory.readDocument();
-
-            var xPathFactory = XPathFactory.newInstance();
-            var xPath = xPathFactory.newXPath();
-            var sourcePath = xPath.compile("/compiler/sources/source[problems]");
-            var fileNamePath = xPath.compile("./@path");
-            var problemsPath = xPath.compile("problems/problem");
-
+        try (var issueBuilder = new IssueBuilder();
+                var problems = readerFactory.readElements("/compiler/sources/source/problems/problem")) {
             var report = new Report();
 
-            var sources = (NodeList) sourcePath.evaluate(doc, XPathConstants.NODESET);
-            for (Element source : XmlElementUtil.nodeListToList(sources)) {
-                var fileName = fileNamePath.evaluate(source);
-                issueBuilder.setFileName(fileName);
+            problems.forEach(problem -> {
+                var source = (Element) problem.getParentNode().getParentNode(); // problem -> problems -> source
+                issueBuilder.setFileName(source.getAttribute("path"))
+                        .guessSeverity(extractSeverity(problem))
+                        .setLineStart(extractLineStart(problem))
+                        .setMessage(extractMessage(problem))
+                        .setCategory(decodeCategory(extractCategoryId(problem)))
+                        .setAdditionalProperties(extractColumnRange(problem));
 
-                var problems = (NodeList) problemsPath.evaluate(source, XPathConstants.NODESET);
-                for (Element problem : XmlElementUtil.nodeListToList(problems)) {
-                    issueBuilder.guessSeverity(extractSeverity(problem))
-                            .setLineStart(extractLineStart(problem))
-                            .setMessage(extractMessage(problem))
-                            .setCategory(decodeCategory(extractCategoryId(problem)))
-                            .setAdditionalProperties(extractColumnRange(problem));
-
-                    report.add(issueBuilder.build());
-                }
-            }
+                report.add(issueBuilder.build());
+            });
 
             return report;
         }
-        catch (XPathExpressionException e) {
-            throw new ParsingException(e, readerFactory);
-        }
     }
 
     /**
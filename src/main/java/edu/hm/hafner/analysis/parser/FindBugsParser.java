@@ -2,8 +2,10 @@ package edu.hm.hafner.analysis.parser;
 
 import org.apache.commons.lang3.StringUtils;
 import org.dom4j.DocumentException;
+import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.Location;
@@ -12,6 +14,8 @@ import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.util.IntegerParser;
+import edu.hm.hafner.analysis.util.XmlElementUtil;
 import edu.hm.hafner.util.TreeStringBuilder;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.BugInstance;
@@ -19,16 +23,18 @@ import edu.umd.cs.findbugs.Project;
 import edu.umd.cs.findbugs.SortedBugCollection;
 import edu.umd.cs.findbugs.SourceLineAnnotation;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
-import edu.umd.cs.findbugs.ba.SourceFinder;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty.*;
 
@@ -57,7 +63,17 @@ public class FindBugsParser extends IssueParser {
     }
 
     private static final String DOT = ".";
-    private static final String SLASH = "/";
+
+    private static final String PROJECT = "Project";
+    private static final String BUG_INSTANCE = "BugInstance";
+    private static final String PROJECT_PATH = "/BugCollection/" + PROJECT;
+    private static final String BUG_INSTANCE_PATH = "/BugCollection/" + BUG_INSTANCE;
+    private static final String CLASS = "Class";
+    private static final String METHOD = "Method";
+    private static final String FIELD = "Field";
+    private static final String SOURCE_LINE = "SourceLine";
+    private static final String CLASS_NAME = "classname";
+    private static final String ROLE = "role";
 
     private static final int HIGH_PRIORITY_LOWEST_RANK = 4;
     private static final int NORMAL_PRIORITY_LOWEST_RANK = 9;
@@ -93,6 +109,77 @@ public class FindBugsParser extends IssueParser {
     @VisibleForTesting
     Report parse(final ReaderFactory readerFactory, final Collection<String> sources, final IssueBuilder builder)
             throws ParsingException {
+        var report = parseInSinglePass(readerFactory, sources, builder);
+        if (report.isPresent()) {
+            return report.get();
+        }
+        return parseWithBugCollection(readerFactory, sources, builder);
+    }
+
+    /**
+     * Parses the FindBugs XML file in a single pass using a streaming XML parser. The SpotBugs object model of the
+     * whole report is not created: each {@code BugInstance} element is converted into an issue as soon as it has been
+     * read. This works only if the bug instances contain all the properties that otherwise would be computed using the
+     * SpotBugs object model (i.e., the long message and the instance hash). These properties are available in all
+     * reports that have been created with messages (which is the default of the SpotBugs Maven and Gradle plugins).
+     *
+     * @param readerFactory
+     *         the FindBugs analysis file
+     * @param sources
+     *         a collection of folders to scan for source files
+     * @param builder
+     *         the issue builder
+     *
+     * @return the parsed report, or an empty optional if the report contains bug instances that can only be converted
+     *         using the SpotBugs object model
+     */
+    private Optional<Report> parseInSinglePass(final ReaderFactory readerFactory, final Collection<String> sources,
+            final IssueBuilder builder) {
+        try (var elements = readerFactory.readElements(PROJECT_PATH, BUG_INSTANCE_PATH);
+                var project = new Project()) {
+            var iterator = elements.iterator();
+            var element = nextElement(iterator);
+            if (element.isPresent() && PROJECT.equals(element.get().getTagName())) {
+                readProject(element.get(), project);
+                element = nextElement(iterator);
+            }
+            project.addSourceDirs(sources);
+
+            try (var sourceFinder = new FindBugsSourceFinder(project)) {
+                var converter = new BugInstanceConverter(project, sourceFinder, builder);
+                List<SortableIssue> issues = new ArrayList<>();
+                while (element.isPresent()) {
+                    var issue = converter.convert(element.get());
+                    if (issue.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    issues.add(issue.get());
+                    element = nextElement(iterator);
+                }
+                return Optional.of(converter.createReport(issues));
+            }
+        }
+    }
+
+    private Optional<Element> nextElement(final Iterator<Element> iterator) {
+        if (iterator.hasNext()) {
+            return Optional.of(iterator.next());
+        }
+        return Optional.empty();
+    }
+
+    private void readProject(final Element projectElement, final Project project) {
+        if (projectElement.hasAttribute("projectName")) {
+            project.setProjectName(projectElement.getAttribute("projectName"));
+        }
+        for (Element sourceDirectory : XmlElementUtil.getChildElementsByName(projectElement, "SrcDir")) {
+            project.addSourceDirs(List.of(sourceDirectory.getTextContent()));
+        }
+    }
+
+    @VisibleForTesting
+    Report parseWithBugCollection(final ReaderFactory readerFactory, final Collection<String> sources,
+            final IssueBuilder builder) {
         Map<String, String> hashToMessageMapping = new HashMap<>();
         Map<String, String> categories = new HashMap<>();
 
@@ -146,7 +233,7 @@ public class FindBugsParser extends IssueParser {
             final SortedBugCollection collection, final Project project) {
         project.addSourceDirs(sources);
 
-        try (var sourceFinder = new SourceFinder(project)) {
+        try (var sourceFinder = new FindBugsSourceFinder(project)) {
             var report = new Report();
             var pathBuilder = new TreeStringBuilder();
             for (BugInstance warning : collection.getCollection()) {
@@ -172,9 +259,9 @@ public class FindBugsParser extends IssueParser {
     }
 
     private Location extractPrimaryLocation(final BugInstance warning, final TreeStringBuilder pathBuilder,
-            final SourceFinder sourceFinder) {
+            final FindBugsSourceFinder sourceFinder) {
         var sourceLine = warning.getPrimarySourceLineAnnotation();
-        var primaryPath = pathBuilder.intern(findSourceFile(sourceFinder, sourceLine));
+        var primaryPath = pathBuilder.intern(sourceFinder.findSourceFile(sourceLine));
         return new Location(primaryPath, sourceLine.getStartLine(), sourceLine.getEndLine());
     }
 
@@ -237,28 +324,30 @@ public class FindBugsParser extends IssueParser {
         }
     }
 
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private BugInstance createBugInstance(final String type, final int priority) {
+        var contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(FindBugsParser.class.getClassLoader());
+            return new BugInstance(type, priority);
+        }
+        finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
     private void setAffectedLines(final BugInstance warning, final IssueBuilder builder,
-            final TreeStringBuilder pathBuilder, final SourceFinder sourceFinder) {
+            final TreeStringBuilder pathBuilder, final FindBugsSourceFinder sourceFinder) {
         var annotationIterator = warning.annotationIterator();
         while (annotationIterator.hasNext()) {
             var bugAnnotation = annotationIterator.next();
             if (bugAnnotation instanceof final SourceLineAnnotation annotation) {
-                var sourceFile = pathBuilder.intern(findSourceFile(sourceFinder, annotation));
+                var sourceFile = pathBuilder.intern(sourceFinder.findSourceFile(annotation));
                 builder.addLocation(new Location(sourceFile, annotation.getStartLine(), annotation.getEndLine()));
             }
         }
     }
 
-    private String findSourceFile(final SourceFinder sourceFinder, final SourceLineAnnotation sourceLine) {
-        try {
-            var sourceFile = sourceFinder.findSourceFile(sourceLine);
-            return sourceFile.getFullFileName();
-        }
-        catch (IOException ignored) {
-            return sourceLine.getPackageName().replace(DOT, SLASH) + SLASH + sourceLine.getSourceFile();
-        }
-    }
-
     /**
      * Maps the FindBugs library rank to plug-in priority enumeration.
      *
@@ -294,6 +383,188 @@ public class FindBugsParser extends IssueParser {
         };
     }
 
+    /**
+     * Converts the {@code BugInstance} elements of a FindBugs XML file into issues. The properties of the issues are
+     * the same as the properties that are obtained from the corresponding {@link BugInstance} objects of a
+     * {@link SortedBugCollection}.
+     */
+    private class BugInstanceConverter {
+        private final Project project;
+        private final FindBugsSourceFinder sourceFinder;
+        private final IssueBuilder builder;
+        private final TreeStringBuilder pathBuilder = new TreeStringBuilder();
+        private final Map<String, BugInstance> bugPrototypes = new HashMap<>();
+
+        BugInstanceConverter(final Project project, final FindBugsSourceFinder sourceFinder,
+                final IssueBuilder builder) {
+            this.project = project;
+            this.sourceFinder = sourceFinder;
+            this.builder = builder;
+        }
+
+        /**
+         * Converts the specified {@code BugInstance} element into an issue.
+         *
+         * @param bug
+         *         the {@code BugInstance} element
+         *
+         * @return the issue, or an empty optional if the element does not contain all required properties
+         */
+        Optional<SortableIssue> convert(final Element bug) {
+            var instanceHash = bug.getAttribute("instanceHash");
+            var priority = bug.getAttribute("priority");
+            var message = XmlElementUtil.getFirstChildElementByName(bug, "LongMessage")
+                    .map(Element::getTextContent)
+                    .map(String::trim)
+                    .orElse(StringUtils.EMPTY);
+            var primaryClass = findPrimaryAnnotation(bug, CLASS);
+            var primarySourceLine = findPrimarySourceLine(bug);
+            if (!BUG_INSTANCE.equals(bug.getTagName()) || instanceHash.isEmpty() || message.isEmpty()
+                    || !StringUtils.isNumeric(priority) || primaryClass.isEmpty() || primarySourceLine.isEmpty()) {
+                return Optional.empty();
+            }
+
+            // The priority of a bug instance might be adjusted by the bug pattern, and the rank depends on the
+            // bug pattern and the priority: so use a bug instance without annotations as a prototype
+            var type = bug.getAttribute(TYPE);
+            var prototype = bugPrototypes.computeIfAbsent(type + ':' + priority,
+                    key -> createBugInstance(type, Integer.parseInt(priority)));
+
+            if (StringUtils.isNotBlank(project.getProjectName())) {
+                builder.setModuleName(project.getProjectName());
+            }
+
+            var className = primaryClass.get().getAttribute(CLASS_NAME);
+            builder.setSeverity(getPriority(prototype))
+                    .setMessage(message)
+                    .addLocation(createLocation(primarySourceLine.get()))
+                    .setCategory(getCategory(bug, prototype))
+                    .setType(type)
+                    .setPackageName(getPackageName(className))
+                    .setFingerprint(instanceHash);
+            for (Element sourceLine : XmlElementUtil.getChildElementsByName(bug, SOURCE_LINE)) {
+                builder.addLocation(createLocation(createSourceLine(sourceLine)));
+            }
+
+            return Optional.of(new SortableIssue(className, type, prototype.getPriority(), builder.buildAndClean()));
+        }
+
+        private String getCategory(final Element bug, final BugInstance prototype) {
+            if (bug.hasAttribute(CATEGORY)) {
+                return bug.getAttribute(CATEGORY);
+            }
+            return prototype.getBugPattern().getCategory();
+        }
+
+        /**
+         * Creates a report with the specified issues. The issues are sorted by the primary class, the type, and the
+         * priority of the bugs. A {@link SortedBugCollection} additionally compares the annotations of the bugs and
+         * drops bugs that are equal with respect to all of these properties. Such a comparison would require the
+         * SpotBugs object model, so bugs with the same primary class, type, and priority keep the order of the report
+         * file instead, and no bugs are dropped (equal issues are still skipped as duplicates by the report). Since
+         * SpotBugs writes the bugs of a {@link SortedBugCollection}, the order of the report file already is the order
+         * of the collection for reports created by SpotBugs.
+         *
+         * @param issues
+         *         the issues to add
+         *
+         * @return the report
+         */
+        Report createReport(final List<SortableIssue> issues) {
+            issues.sort(Comparator.comparing(SortableIssue::className)
+                    .thenComparing(SortableIssue::type)
+                    .thenComparingInt(SortableIssue::priority));
+
+            var report = new Report();
+            for (SortableIssue issue : issues) {
+                report.add(issue.issue());
+            }
+            pathBuilder.dedup();
+            return report;
+        }
+
+        private String getPackageName(final String className) {
+            int lastDot = className.lastIndexOf(DOT);
+            if (lastDot < 0) {
+                return StringUtils.EMPTY;
+            }
+            return className.substring(0, lastDot);
+        }
+
+        private Location createLocation(final SourceLineAnnotation sourceLine) {
+            return new Location(pathBuilder.intern(sourceFinder.findSourceFile(sourceLine)),
+                    sourceLine.getStartLine(), sourceLine.getEndLine());
+        }
+
+        /**
+         * Finds the primary source line of a bug instance, see {@link BugInstance#getPrimarySourceLineAnnotation()}.
+         *
+         * @param bug
+         *         the {@code BugInstance} element
+         *
+         * @return the primary source line, or an empty optional if the source line can only be determined using the
+         *         SpotBugs object model
+         */
+        private Optional<SourceLineAnnotation> findPrimarySourceLine(final Element bug) {
+            var sourceLines = XmlElementUtil.getChildElementsByName(bug, SOURCE_LINE);
+            for (Element sourceLine : sourceLines) {
+                var annotation = createSourceLine(sourceLine);
+                if (!annotation.isUnknown() && SourceLineAnnotation.DEFAULT_ROLE.equals(getRole(sourceLine))) {
+                    return Optional.of(annotation);
+                }
+            }
+            for (Element sourceLine : sourceLines) {
+                var annotation = createSourceLine(sourceLine);
+                if (!annotation.isUnknown()) {
+                    return Optional.of(annotation);
+                }
+            }
+            for (String member : List.of(METHOD, FIELD, CLASS)) {
+                var primaryMember = findPrimaryAnnotation(bug, member);
+                if (primaryMember.isPresent()) {
+                    return XmlElementUtil.getFirstChildElementByName(primaryMember.get(), SOURCE_LINE)
+                            .map(this::createSourceLine);
+                }
+            }
+            return Optional.empty();
+        }
+
+        private Optional<Element> findPrimaryAnnotation(final Element bug, final String name) {
+            var annotations = XmlElementUtil.getChildElementsByName(bug, name);
+            for (Element annotation : annotations) {
+                if (!annotation.hasAttribute(ROLE) || annotation.getAttribute(ROLE).endsWith("DEFAULT")) {
+                    return Optional.of(annotation);
+                }
+            }
+            return annotations.stream().findFirst();
+        }
+
+        private String getRole(final Element sourceLine) {
+            if (sourceLine.hasAttribute(ROLE)) {
+                return sourceLine.getAttribute(ROLE);
+            }
+            return SourceLineAnnotation.DEFAULT_ROLE;
+        }
+
+        private SourceLineAnnotation createSourceLine(final Element sourceLine) {
+            var sourceFile = sourceLine.getAttribute("sourcefile");
+            return new SourceLineAnnotation(sourceLine.getAttribute(CLASS_NAME),
+                    sourceFile.isEmpty() ? SourceLineAnnotation.UNKNOWN_SOURCE_FILE : sourceFile,
+                    readLine(sourceLine, "start"), readLine(sourceLine, "end"),
+                    readLine(sourceLine, "startBytecode"), readLine(sourceLine, "endBytecode"));
+        }
+
+        private int readLine(final Element sourceLine, final String attribute) {
+            if (sourceLine.hasAttribute(attribute)) {
+                return IntegerParser.parseInt(sourceLine.getAttribute(attribute));
+            }
+            return -1;
+        }
+    }
+
+    private record SortableIssue(String className, String type, int priority, Issue issue) {
+    }
+
     /**
      * Java Bean to create the mapping of hash codes to messages using the Digester XML parser.
      *
@@ -0,0 +1,123 @@
+package edu.hm.hafner.analysis.parser;
+
+import edu.umd.cs.findbugs.Project;
+import edu.umd.cs.findbugs.SourceLineAnnotation;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.ba.SourceFinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the source files of the {@link SourceLineAnnotation source line annotations} of a FindBugs report. The
+ * resolved file names are cached for each source file (or for each class, if the source file is unknown), so the
+ * source folders of the project are searched only once for each source file. Additionally, the source folders are
+ * indexed up front using a parallel walk (that follows symbolic links): source files that are not part of the index
+ * are resolved without probing the file system.
+ *
+ * <p>
+ * Source files that are part of the index are still resolved using the SpotBugs {@link SourceFinder}. This probes
+ * the source folders once more for each of these files, but the resulting file names keep the format of SpotBugs,
+ * and the first source folder that contains a file still wins.
+ * </p>
+ *
+ * <p>
+ * The index is only used if all source folders of the project are absolute paths of directories. Otherwise, (e.g., if
+ * the sources are part of an archive), all source files are resolved using the SpotBugs {@link SourceFinder}.
+ * </p>
+ */
+class FindBugsSourceFinder implements AutoCloseable {
+    private static final String DOT = ".";
+    private static final String SLASH = "/";
+
+    private final SourceFinder sourceFinder;
+    @CheckForNull
+    private final Set<String> index;
+    private final Map<String, String> fileNames = new HashMap<>();
+    private final Map<String, String> fileNamesByClass = new HashMap<>();
+
+    /**
+     * Creates a new source finder for the source folders of the specified project.
+     *
+     * @param project
+     *         the project that provides the source folders
+     */
+    FindBugsSourceFinder(final Project project) {
+        sourceFinder = new SourceFinder(project);
+        index = createIndex(project.getSourceDirList());
+    }
+
+    @CheckForNull
+    private static Set<String> createIndex(final List<String> sourceFolders) {
+        try {
+            var folders = sourceFolders.stream().map(Path::of).toList();
+            if (!folders.stream().allMatch(folder -> folder.isAbsolute() && !Files.isRegularFile(folder))) {
+                return null;
+            }
+
+            Set<String> files = ConcurrentHashMap.newKeySet();
+            folders.parallelStream().filter(Files::isDirectory).forEach(folder -> indexFolder(folder, files));
+            return files;
+        }
+        catch (InvalidPathException | UncheckedIOException ignored) {
+            return null; // use the SpotBugs source finder for all files
+        }
+    }
+
+    private static void indexFolder(final Path folder, final Set<String> files) {
+        try (Stream<Path> paths = Files.walk(folder, FileVisitOption.FOLLOW_LINKS)) {
+            paths.parallel()
+                    .map(path -> folder.relativize(path).toString().replace('\\', '/'))
+                    .forEach(files::add);
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Returns the file name of the source file of the specified source line annotation. If the source file is part of
+     * one of the source folders, then the absolute file name is returned. Otherwise, the relative path of the source
+     * file (derived from the package name) is returned.
+     *
+     * @param sourceLine
+     *         the source line annotation
+     *
+     * @return the file name
+     */
+    String findSourceFile(final SourceLineAnnotation sourceLine) {
+        if (sourceLine.isSourceFileKnown()) {
+            return fileNames.computeIfAbsent(SourceFinder.getCanonicalName(sourceLine), key -> resolve(sourceLine));
+        }
+        // SpotBugs guesses the source file using the class name
+        return fileNamesByClass.computeIfAbsent(sourceLine.getClassName(), key -> resolve(sourceLine));
+    }
+
+    private String resolve(final SourceLineAnnotation sourceLine) {
+        var relativePath = sourceLine.getPackageName().replace(DOT, SLASH) + SLASH + sourceLine.getSourceFile();
+        if (index != null && !index.contains(SourceFinder.getCanonicalName(sourceLine))) {
+            return relativePath;
+        }
+        try {
+            return sourceFinder.findSourceFile(sourceLine).getFullFileName();
+        }
+        catch (IOException ignored) {
+            return relativePath;
+        }
+    }
+
+    @Override
+    public void close() {
+        sourceFinder.close();
+    }
+}
@@ -30,6 +30,11 @@ public class GoVetParser extends LookaheadParser {
         super(GOVET_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isStatelessPerLine() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
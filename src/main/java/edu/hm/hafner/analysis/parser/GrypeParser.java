@@ -6,6 +6,8 @@ import org.json.JSONObject;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 
@@ -35,14 +37,16 @@ public class GrypeParser extends JsonIssueParser {
     private static final String TYPE_TAG = "type";
 
     @Override
-    protected void parseJsonObject(final Report report, final JSONObject jsonReport, final IssueBuilder issueBuilder) {
-        final var matches = jsonReport.getJSONArray(MATCHES_TAG);
-        for (int i = 0; i < matches.length(); i++) {
-            final var match = matches.getJSONObject(i);
-            if (match.has(VULNERABILIY_TAG)) {
-                var issue = getIssue(issueBuilder, match);
-                report.add(issue);
-            }
+    protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
+        try (var issueBuilder = new IssueBuilder()) {
+            var report = new Report();
+            JsonElementReader.read(readerFactory, MATCHES_TAG, (enclosingObjects, element) -> {
+                var match = (JSONObject) element;
+                if (match.has(VULNERABILIY_TAG)) {
+                    report.add(getIssue(issueBuilder, match));
+                }
+            });
+            return report;
         }
     }
 
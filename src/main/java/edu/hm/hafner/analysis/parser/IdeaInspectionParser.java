@@ -14,7 +14,7 @@ import edu.hm.hafner.analysis.util.IntegerParser;
 import edu.hm.hafner.analysis.util.XmlElementUtil;
 
 import java.io.Serial;
-import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A parser for IntelliJ IDEA inspections.
@@ -30,16 +30,15 @@ public class IdeaInspectionParser extends IssueParser {
 
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        var document = readerFactory.readDocument();
-
-        var rootElement = (Element) document.getElementsByTagName("problems").item(0);
-        return parseProblems(XmlElementUtil.getChildElementsByName(rootElement, "problem"));
+        try (var elements = readerFactory.readElements("problems/problem")) {
+            return parseProblems(elements);
+        }
     }
 
-    private Report parseProblems(final List<Element> elements) {
+    private Report parseProblems(final Stream<Element> elements) {
         var problems = new Report();
         try (var issueBuilder = new IssueBuilder()) {
-            for (Element element : elements) {
+            elements.forEach(element -> {
                 var file = getChildValue(element, "file");
                 var problemClass = XmlElementUtil.getFirstChildElementByName(element, "problem_class");
                 if (problemClass.isPresent()) {
@@ -52,7 +51,7 @@ public class IdeaInspectionParser extends IssueParser {
                             .setSeverity(getPriority(problem.getAttribute("severity")));
                     problems.add(issueBuilder.buildAndClean());
                 }
-            }
+            });
         }
         return problems;
     }
@@ -8,6 +8,7 @@ import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.Location;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.TreeString;
 import edu.hm.hafner.util.TreeStringBuilder;
 
 import java.io.Serial;
@@ -132,7 +133,7 @@ abstract class JsonBaseParser extends IssueParser {
         var locations = new ArrayList<Location>();
         for (int i = 0; i < jsonLocations.length(); i++) {
             var jsonLocation = jsonLocations.getJSONObject(i);
-            var fileName = TREE_STRING_BUILDER.intern(jsonLocation.optString(FILE_LOCATION_FILE_NAME, "-"));
+            var fileName = intern(jsonLocation.optString(FILE_LOCATION_FILE_NAME, "-"));
             var lineStart = jsonLocation.optInt(FILE_LOCATION_LINE_START, 0);
             var lineEnd = jsonLocation.optInt(FILE_LOCATION_LINE_END, lineStart);
             var columnStart = jsonLocation.optInt(FILE_LOCATION_COLUMN_START, 0);
@@ -142,4 +143,10 @@ abstract class JsonBaseParser extends IssueParser {
         }
         return locations;
     }
+
+    private static TreeString intern(final String fileName) {
+        synchronized (TREE_STRING_BUILDER) { // issues might be converted concurrently, see JsonLogParser
+            return TREE_STRING_BUILDER.intern(fileName);
+        }
+    }
 }
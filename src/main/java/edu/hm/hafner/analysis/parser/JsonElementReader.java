@@ -0,0 +1,126 @@
+package edu.hm.hafner.analysis.parser;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Reads the elements of the JSON arrays of a report one after another and converts them into JSON values. In contrast
+ * to parsing the whole report with a {@link JSONTokener}, only a single element (and the objects that enclose it) is
+ * kept in memory. So parsers can convert large reports issue by issue.
+ *
+ * @see ReaderFactory#readJsonElements(String, BiConsumer)
+ */
+final class JsonElementReader {
+    /**
+     * Reads the elements of the JSON arrays that match the specified path and passes each element to the specified
+     * handler.
+     *
+     * @param readerFactory
+     *         the factory that provides the JSON report
+     * @param path
+     *         the path of the arrays, see {@link ReaderFactory#readJsonElements(String, BiConsumer)}
+     * @param handler
+     *         the handler that consumes the enclosing objects (starting with the root object) and the element, the
+     *         element is either a {@link JSONObject}, a {@link org.json.JSONArray}, a {@link String}, a
+     *         {@link Number}, a {@link Boolean}, or {@link JSONObject#NULL}
+     *
+     * @throws ParsingException
+     *         if the report could not be read or if the handler could not process an element
+     */
+    static void read(final ReaderFactory readerFactory, final String path,
+            final BiConsumer<List<JSONObject>, Object> handler) {
+        read(readerFactory, handler, elementHandler -> readerFactory.readJsonElements(path, elementHandler));
+    }
+
+    /**
+     * Reads the elements of the JSON arrays that match the specified path, or the elements of the root array if the
+     * report starts with an array, and passes each element to the specified handler.
+     *
+     * @param readerFactory
+     *         the factory that provides the JSON report
+     * @param path
+     *         the path of the arrays, see {@link ReaderFactory#readJsonElementsOrRootArray(String, BiConsumer)}
+     * @param handler
+     *         the handler that consumes the enclosing objects (starting with the root object) and the element
+     *
+     * @throws ParsingException
+     *         if the report could not be read or if the handler could not process an element
+     */
+    static void readOrRootArray(final ReaderFactory readerFactory, final String path,
+            final BiConsumer<List<JSONObject>, Object> handler) {
+        read(readerFactory, handler,
+                elementHandler -> readerFactory.readJsonElementsOrRootArray(path, elementHandler));
+    }
+
+    private static void read(final ReaderFactory readerFactory, final BiConsumer<List<JSONObject>, Object> handler,
+            final Consumer<BiConsumer<List<String>, String>> scanner) {
+        var enclosingObjects = new EnclosingObjects();
+        try {
+            scanner.accept((objects, element) ->
+                    handler.accept(enclosingObjects.parse(objects), new JSONTokener(element).nextValue()));
+        }
+        catch (JSONException | ClassCastException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    /**
+     * Reads the root object of the specified JSON report without the arrays that match the specified path.
+     *
+     * @param readerFactory
+     *         the factory that provides the JSON report
+     * @param path
+     *         the path of the arrays to skip, see {@link ReaderFactory#readJsonRootObject(String)}
+     *
+     * @return the root object, or an empty optional if the report does not start with an object
+     * @throws ParsingException
+     *         if the report could not be read
+     */
+    static Optional<JSONObject> readRootObject(final ReaderFactory readerFactory, final String path) {
+        try {
+            return readerFactory.readJsonRootObject(path).map(JSONObject::new);
+        }
+        catch (JSONException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    private JsonElementReader() {
+        // prevents instantiation
+    }
+
+    /**
+     * Converts the enclosing objects of the elements. Since consecutive elements typically share the same enclosing
+     * objects, each enclosing object is converted only once.
+     */
+    private static class EnclosingObjects {
+        private List<String> texts = List.of();
+        private List<JSONObject> objects = List.of();
+
+        List<JSONObject> parse(final List<String> enclosingTexts) {
+            List<JSONObject> enclosingObjects = new ArrayList<>(enclosingTexts.size());
+            for (int level = 0; level < enclosingTexts.size(); level++) {
+                var text = enclosingTexts.get(level);
+                if (level < texts.size() && text.equals(texts.get(level))) {
+                    enclosingObjects.add(objects.get(level));
+                }
+                else {
+                    enclosingObjects.add(new JSONObject(text));
+                }
+            }
+            texts = enclosingTexts;
+            objects = enclosingObjects;
+            return enclosingObjects;
+        }
+    }
+}
@@ -3,13 +3,24 @@ package edu.hm.hafner.analysis.parser;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
 import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.ParsingCanceledException;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.util.Ensure;
 
 import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 /**
@@ -21,6 +32,31 @@ public class JsonLogParser extends JsonBaseParser {
     @Serial
     private static final long serialVersionUID = 1349282064371959197L;
 
+    private static final String ERROR_MESSAGE = "Could not parse line: «%s»";
+    private static final int BATCH_SIZE = 1000;
+    private static final int BATCHES_PER_WORKER = 4;
+
+    private int parallelism = 1;
+
+    /**
+     * Sets the number of worker threads that convert the lines of the log. If the parallelism is greater than one, then
+     * the lines are read in batches that are converted concurrently. The issues of the batches are merged in the order
+     * of the log, so the resulting report is the same as the report of a sequential parser.
+     *
+     * @param parallelism
+     *         the number of worker threads, use 1 to parse the log in the calling thread
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    public JsonLogParser setParallelism(final int parallelism) {
+        Ensure.that(parallelism > 0).isTrue("Parallelism must be positive: %d", parallelism);
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
     @Override
     public boolean accepts(final ReaderFactory readerFactory) {
         var fileName = readerFactory.getFileName();
@@ -31,13 +67,18 @@ public class JsonLogParser extends JsonBaseParser {
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
         try (Stream<String> lines = readerFactory.readStream()) {
             var report = new Report();
-            lines.map(String::trim)
+            var issueLines = lines.map(String::trim)
                     .filter(line -> !line.isEmpty())
                     .filter(line -> !line.startsWith("//"))
-                    .filter(line -> line.charAt(0) != '#')
-                    .map(line -> parseIssue(line, report))
-                    .flatMap(Optional::stream)
-                    .forEach(report::add);
+                    .filter(line -> line.charAt(0) != '#');
+            if (parallelism > 1) {
+                parseInParallel(issueLines, report);
+            }
+            else {
+                issueLines.map(line -> parseIssue(line, report))
+                        .flatMap(Optional::stream)
+                        .forEach(report::add);
+            }
             return report;
         }
     }
@@ -48,8 +89,89 @@ public class JsonLogParser extends JsonBaseParser {
             return convertToIssue(jsonIssue);
         }
         catch (JSONException e) {
-            report.logException(e, "Could not parse line: «%s»", line);
+            report.logException(e, ERROR_MESSAGE, line);
             return Optional.empty();
         }
     }
+
+    /**
+     * Converts the lines in batches using a pool of worker threads. The number of batches that are in progress is
+     * limited, so only a small part of the log needs to be kept in memory. The results of the batches are merged in
+     * the order of the log.
+     *
+     * @param lines
+     *         the lines of the log
+     * @param report
+     *         the report to add the issues to
+     */
+    private void parseInParallel(final Stream<String> lines, final Report report) {
+        var pool = new ForkJoinPool(parallelism);
+        try {
+            Deque<Future<Batch>> results = new ArrayDeque<>();
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            for (var iterator = lines.iterator(); iterator.hasNext(); ) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    var lineBatch = batch;
+                    results.add(pool.submit(() -> convertBatch(lineBatch)));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    if (results.size() >= parallelism * BATCHES_PER_WORKER) {
+                        results.removeFirst().get().addTo(report);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                var lineBatch = batch;
+                results.add(pool.submit(() -> convertBatch(lineBatch)));
+            }
+            while (!results.isEmpty()) {
+                results.removeFirst().get().addTo(report);
+            }
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Can't parse report file", exception.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Batch convertBatch(final List<String> lines) {
+        var batch = new Batch();
+        for (String line : lines) {
+            try {
+                var jsonIssue = new JSONObject(line);
+                convertToIssue(jsonIssue).ifPresent(batch.issues::add);
+            }
+            catch (JSONException e) {
+                batch.failures.add(new Failure(line, e));
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * The issues and failures of a batch of lines. Since a {@link Report} is not thread-safe, the workers collect the
+     * results in a batch first.
+     */
+    private static class Batch {
+        private final List<Issue> issues = new ArrayList<>();
+        private final List<Failure> failures = new ArrayList<>();
+
+        void addTo(final Report report) {
+            failures.forEach(failure -> report.logException(failure.exception(), ERROR_MESSAGE, failure.line()));
+            issues.forEach(report::add);
+        }
+    }
+
+    private record Failure(String line, JSONException exception) {
+    }
 }
@@ -1,8 +1,6 @@
 package edu.hm.hafner.analysis.parser;
 
-import org.json.JSONException;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -10,10 +8,7 @@ import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 
-import java.io.IOException;
 import java.io.Serial;
-import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 /**
  * Parser that reads the 1:1 JSON mapping of the properties of the {@link Issue} bean.
@@ -24,7 +19,6 @@ public class JsonParser extends JsonBaseParser {
     @Serial
     private static final long serialVersionUID = -6494117943149352139L;
     private static final String ISSUES = "issues";
-    private static final boolean SEQUENTIAL = false;
 
     @Override
     public boolean accepts(final ReaderFactory readerFactory) {
@@ -33,22 +27,14 @@ public class JsonParser extends JsonBaseParser {
 
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        try (var reader = readerFactory.create(); var builder = new IssueBuilder()) {
-            var jsonReport = (JSONObject) new JSONTokener(reader).nextValue();
-
+        try (var builder = new IssueBuilder()) {
             var report = new Report();
-            if (jsonReport.has(ISSUES)) {
-                var issues = jsonReport.getJSONArray(ISSUES);
-                StreamSupport.stream(issues.spliterator(), SEQUENTIAL)
-                        .filter(JSONObject.class::isInstance)
-                        .map(o -> convertToIssue((JSONObject) o, builder))
-                        .flatMap(Optional::stream)
-                        .forEach(report::add);
-            }
+            JsonElementReader.read(readerFactory, ISSUES, (enclosingObjects, element) -> {
+                if (element instanceof JSONObject issue) {
+                    convertToIssue(issue, builder).ifPresent(report::add);
+                }
+            });
             return report;
         }
-        catch (IOException | JSONException exception) {
-            throw new ParsingException(exception, readerFactory);
-        }
     }
 }
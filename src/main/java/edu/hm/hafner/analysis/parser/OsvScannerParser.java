@@ -5,6 +5,8 @@ import org.json.JSONObject;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
@@ -45,28 +47,15 @@ public class OsvScannerParser extends JsonIssueParser {
     private static final String SEVERITY_TAG = "severity";
 
     @Override
-    protected void parseJsonObject(final Report report, final JSONObject jsonReport, final IssueBuilder issueBuilder) {
-        if (!jsonReport.has(RESULTS_TAG)) {
-            return;
-        }
-        var results = jsonReport.getJSONArray(RESULTS_TAG);
-        for (int i = 0; i < results.length(); i++) {
-            var result = results.getJSONObject(i);
-            var source = result.optJSONObject(SOURCE_TAG);
-            var sourcePath = source != null ? source.optString(PATH_TAG, "-") : "-";
-            parsePackages(report, result, sourcePath, issueBuilder);
-        }
-    }
-
-    private void parsePackages(final Report report, final JSONObject result, final String sourcePath,
-            final IssueBuilder issueBuilder) {
-        if (!result.has(PACKAGES_TAG)) {
-            return;
-        }
-        var packages = result.getJSONArray(PACKAGES_TAG);
-        for (int i = 0; i < packages.length(); i++) {
-            var packageEntry = packages.getJSONObject(i);
-            parseVulnerabilities(report, packageEntry, sourcePath, issueBuilder);
+    protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
+        try (var issueBuilder = new IssueBuilder()) {
+            var report = new Report();
+            JsonElementReader.read(readerFactory, RESULTS_TAG + "/" + PACKAGES_TAG, (enclosingObjects, element) -> {
+                var source = enclosingObjects.get(1).optJSONObject(SOURCE_TAG);
+                var sourcePath = source != null ? source.optString(PATH_TAG, "-") : "-";
+                parseVulnerabilities(report, (JSONObject) element, sourcePath, issueBuilder);
+            });
+            return report;
         }
     }
 
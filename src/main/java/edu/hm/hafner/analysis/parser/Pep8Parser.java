@@ -30,6 +30,11 @@ public class Pep8Parser extends LookaheadParser {
         super(PEP8_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isStatelessPerLine() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
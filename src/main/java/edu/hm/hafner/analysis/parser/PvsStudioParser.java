@@ -2,7 +2,6 @@ package edu.hm.hafner.analysis.parser;
 
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -94,18 +93,9 @@ public class PvsStudioParser extends IssueParser {
          * @return list plog messages
          */
         List<PlogMessage> getMessagesFromReport(final ReaderFactory readerFactory) {
-            var plogDoc = readerFactory.readDocument();
-            plogDoc.getDocumentElement().normalize();
-
-            var nList = plogDoc.getElementsByTagName("PVS-Studio_Analysis_Log");
-
             List<PlogMessage> plogMessages = new ArrayList<>();
-            for (int nodeCount = 0; nodeCount < nList.getLength(); nodeCount++) {
-                var nNode = nList.item(nodeCount);
-
-                if (nNode.getNodeType() == Node.ELEMENT_NODE) {
-                    processNode(plogMessages, nNode);
-                }
+            try (var elements = readerFactory.readElements("PVS-Studio_Analysis_Log")) {
+                elements.forEach(element -> processNode(plogMessages, element));
             }
 
             if ((plogMessages.size() + falseAlarmCount) == 0 && failWarningsCount > 0) {
@@ -115,9 +105,7 @@ public class PvsStudioParser extends IssueParser {
             return plogMessages;
         }
 
-        private void processNode(final List<PlogMessage> plogMessages, final Node node) {
-            var eElement = (Element) node;
-
+        private void processNode(final List<PlogMessage> plogMessages, final Element eElement) {
             var nodeFalseAlarm = eElement.getElementsByTagName("FalseAlarm");
             if (skipMessage(nodeFalseAlarm)) {
                 ++falseAlarmCount;
@@ -1,14 +1,13 @@
 package edu.hm.hafner.analysis.parser;
 
-import java.io.IOException;
 import java.io.Serial;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
@@ -62,12 +61,21 @@ public abstract class SonarQubeParser extends JsonIssueParser {
     @CheckForNull
     private transient JSONArray components = new JSONArray();
 
+    /**
+     * Returns whether this parser accepts the specified report. Only the root object of the report is inspected: the
+     * issues of the report are skipped without being read into memory.
+     *
+     * @param readerFactory
+     *         the factory that provides the report
+     *
+     * @return {@code true} if this parser accepts the report as valid input, {@code false} otherwise
+     */
     @Override
     public boolean accepts(final ReaderFactory readerFactory) {
-        try (var reader = readerFactory.create()) {
-            return accepts((JSONObject) new JSONTokener(reader).nextValue());
+        try {
+            return JsonElementReader.readRootObject(readerFactory, ISSUES).map(this::accepts).orElse(false);
         }
-        catch (IOException ignored) {
+        catch (ParsingException ignored) {
             return false;
         }
     }
@@ -83,19 +91,16 @@ public abstract class SonarQubeParser extends JsonIssueParser {
     abstract boolean accepts(JSONObject object);
 
     @Override
-    protected void parseJsonObject(final Report report, final JSONObject jsonReport, final IssueBuilder issueBuilder) {
-        extractComponents(jsonReport);
-
-        if (jsonReport.has(ISSUES)) {
-            extractIssues(jsonReport.optJSONArray(ISSUES), report, issueBuilder);
-        }
-    }
-
-    private void extractIssues(final JSONArray elements, final Report report, final IssueBuilder issueBuilder) {
-        for (Object object : elements) {
-            if (object instanceof final JSONObject issue && filterIssue(issue)) {
-                report.add(createIssueFromJsonObject(issue, issueBuilder));
-            }
+    protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
+        try (var issueBuilder = new IssueBuilder()) {
+            var report = new Report();
+            JsonElementReader.read(readerFactory, ISSUES, (enclosingObjects, element) -> {
+                extractComponents(enclosingObjects.get(0));
+                if (element instanceof final JSONObject issue && filterIssue(issue)) {
+                    report.add(createIssueFromJsonObject(issue, issueBuilder));
+                }
+            });
+            return report;
         }
     }
 
@@ -104,7 +109,7 @@ public abstract class SonarQubeParser extends JsonIssueParser {
      * path).
      *
      * @param jsonReport
-     *         the report to get the components from
+     *         the report to get the components from (without the issues)
      */
     private void extractComponents(final JSONObject jsonReport) {
         if (jsonReport.has(COMPONENTS)) {
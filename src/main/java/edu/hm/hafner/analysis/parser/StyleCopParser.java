@@ -10,10 +10,9 @@ import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.util.IntegerParser;
-import edu.hm.hafner.analysis.util.XmlElementUtil;
 
 import java.io.Serial;
-import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Parses a StyleCop XML report files.
@@ -26,23 +25,17 @@ public class StyleCopParser extends IssueParser {
 
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        var document = readerFactory.readDocument();
-
-        // Pre v4.3 uses SourceAnalysisViolations as the parent node name
-        var mainNode = document.getElementsByTagName("SourceAnalysisViolations");
-        if (mainNode.getLength() == 0) {
-            // v4.3 uses StyleCopViolations as the parent node name
-            mainNode = document.getElementsByTagName("StyleCopViolations");
+        // Pre v4.3 uses SourceAnalysisViolations as the parent node name, v4.3 uses StyleCopViolations
+        try (var elements = readerFactory.readElements(
+                "SourceAnalysisViolations/Violation", "StyleCopViolations/Violation")) {
+            return parseViolations(elements);
         }
-
-        var rootElement = (Element) mainNode.item(0);
-        return parseViolations(XmlElementUtil.getChildElementsByName(rootElement, "Violation"));
     }
 
-    private Report parseViolations(final List<Element> elements) {
+    private Report parseViolations(final Stream<Element> elements) {
         try (var issueBuilder = new IssueBuilder()) {
             var report = new Report();
-            for (Element element : elements) {
+            elements.forEach(element -> {
                 issueBuilder.setFileName(getString(element, "Source"))
                         .setLineStart(getLineNumber(element))
                         .setCategory(getCategory(element))
@@ -51,7 +44,7 @@ public class StyleCopParser extends IssueParser {
                         .setSeverity(Severity.WARNING_NORMAL);
 
                 report.add(issueBuilder.buildAndClean());
-            }
+            });
             return report;
         }
     }
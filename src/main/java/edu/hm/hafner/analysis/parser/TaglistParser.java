@@ -1,11 +1,7 @@
 package edu.hm.hafner.analysis.parser;
 
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-
+import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
@@ -30,42 +26,42 @@ public class TaglistParser extends IssueParser {
 
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        try (var issueBuilder = new IssueBuilder()) {
-            var xPathFactory = XPathFactory.newInstance();
-            var xPath = xPathFactory.newXPath();
-
+        try (var issueBuilder = new IssueBuilder();
+                var comments = readerFactory.readElements("/report/tags/tag/files/file/comments/comment")) {
             var report = new Report();
 
-            var document = readerFactory.readDocument();
-            var tags = (NodeList) xPath.evaluate("/report/tags/tag", document, XPathConstants.NODESET);
-            for (Element tag : XmlElementUtil.nodeListToList(tags)) {
-                var category = xPath.evaluate("@name", tag);
-                issueBuilder.setCategory(category);
+            comments.forEach(comment -> {
+                var file = getAncestor(comment, 2); // comment -> comments -> file
+                var tag = getAncestor(file, 2); // file -> files -> tag
+                issueBuilder.setCategory(tag.getAttribute("name"));
 
-                var files = (NodeList) xPath.evaluate("files/file", tag, XPathConstants.NODESET);
-                for (Element file : XmlElementUtil.nodeListToList(files)) {
-                    var clazz = xPath.evaluate("@name", file);
-                    if (clazz != null) {
-                        issueBuilder.setFileName(class2file(clazz));
-                        issueBuilder.setPackageName(class2package(clazz));
-                        issueBuilder.setAdditionalProperties(clazz);
-                    }
+                var clazz = file.getAttribute("name");
+                issueBuilder.setFileName(class2file(clazz));
+                issueBuilder.setPackageName(class2package(clazz));
+                issueBuilder.setAdditionalProperties(clazz);
 
-                    var comments = (NodeList) xPath.evaluate("comments/comment", file, XPathConstants.NODESET);
-                    for (Element comment : XmlElementUtil.nodeListToList(comments)) {
-                        issueBuilder.setLineStart(xPath.evaluate("lineNumber", comment));
-                        issueBuilder.setMessage(xPath.evaluate("comment", comment));
+                issueBuilder.setLineStart(getChildValue(comment, "lineNumber"));
+                issueBuilder.setMessage(getChildValue(comment, "comment"));
 
-                        report.add(issueBuilder.build());
-                    }
-                }
-            }
+                report.add(issueBuilder.build());
+            });
 
             return report;
         }
-        catch (XPathExpressionException e) {
-            throw new ParsingException(e, readerFactory);
+    }
+
+    private Element getAncestor(final Element element, final int generations) {
+        var ancestor = element;
+        for (int i = 0; i < generations; i++) {
+            ancestor = (Element) ancestor.getParentNode();
         }
+        return ancestor;
+    }
+
+    private String getChildValue(final Element element, final String name) {
+        return XmlElementUtil.getFirstChildElementByName(element, name)
+                .map(Element::getTextContent)
+                .orElse(StringUtils.EMPTY);
     }
 
     private String class2file(final String clazz) {
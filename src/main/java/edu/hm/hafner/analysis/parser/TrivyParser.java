@@ -1,10 +1,11 @@
 package edu.hm.hafner.analysis.parser;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -37,42 +38,36 @@ public class TrivyParser extends JsonIssueParser {
     private static final long serialVersionUID = 8424795926301953150L;
 
     private static final String VALUE_NOT_SET = "-";
+    private static final String RESULTS = "Results";
     private static final String TRIVY_VULNERABILITY_LEVEL_TAG_HIGH = "high";
     private static final String TRIVY_VULNERABILITY_LEVEL_TAG_MEDIUM = "medium";
     private static final String TRIVY_VULNERABILITY_LEVEL_TAG_LOW = "low";
 
     /**
-     * Used with schema version 2 starting with trivy 0.20.0.
+     * Reads the components of the report one after another. Reports with schema version 2 (starting with trivy
+     * 0.20.0) contain the components in the {@code Results} array of the root object, reports with the older schema
+     * contain the components in the root array.
      */
     @Override
-    protected void parseJsonObject(final Report report, final JSONObject jsonReport, final IssueBuilder issueBuilder) {
-        var results = jsonReport.optJSONArray("Results");
-        if (results != null) {
-            parseResults(report, results, issueBuilder);
+    protected Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
+        try (var issueBuilder = new IssueBuilder()) {
+            var report = new Report();
+            JsonElementReader.readOrRootArray(readerFactory, RESULTS,
+                    (enclosingObjects, component) -> parseComponent(report, (JSONObject) component, issueBuilder));
+            return report;
         }
     }
 
-    /**
-     * Used with the older schema before trivy 0.20.0.
-     */
-    @Override
-    protected void parseJsonArray(final Report report, final JSONArray jsonReport, final IssueBuilder issueBuilder) {
-        parseResults(report, jsonReport, issueBuilder);
-    }
-
-    private void parseResults(final Report report, final JSONArray jsonReport, final IssueBuilder issueBuilder) {
-        for (int i = 0; i < jsonReport.length(); i++) {
-            var component = (JSONObject) jsonReport.get(i);
-            if (!component.isNull("Vulnerabilities")) {
-                for (Object vulnerability : component.getJSONArray("Vulnerabilities")) {
-                    report.add(convertToVulnerabilityIssue((JSONObject) vulnerability, issueBuilder));
-                }
+    private void parseComponent(final Report report, final JSONObject component, final IssueBuilder issueBuilder) {
+        if (!component.isNull("Vulnerabilities")) {
+            for (Object vulnerability : component.getJSONArray("Vulnerabilities")) {
+                report.add(convertToVulnerabilityIssue((JSONObject) vulnerability, issueBuilder));
             }
-            if (!component.isNull("Misconfigurations")) {
-                for (Object misconfiguration : component.getJSONArray("Misconfigurations")) {
-                    issueBuilder.setFileName(component.optString("Target", VALUE_NOT_SET));
-                    report.add(convertToMisconfigurationIssue((JSONObject) misconfiguration, issueBuilder));
-                }
+        }
+        if (!component.isNull("Misconfigurations")) {
+            for (Object misconfiguration : component.getJSONArray("Misconfigurations")) {
+                issueBuilder.setFileName(component.optString("Target", VALUE_NOT_SET));
+                report.add(convertToMisconfigurationIssue((JSONObject) misconfiguration, issueBuilder));
             }
         }
     }
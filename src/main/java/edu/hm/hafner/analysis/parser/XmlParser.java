@@ -1,6 +1,5 @@
 package edu.hm.hafner.analysis.parser;
 
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
@@ -24,6 +23,10 @@ import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Parser that reads the 1:1 XML mapping of the properties of the {@link Issue} bean.
@@ -35,9 +38,16 @@ public class XmlParser extends IssueParser {
     @Serial
     private static final long serialVersionUID = -8099458358775144575L;
 
-    private static final String LINE_RANGES_PATH = "lineRanges/lineRange";
+    private static final String LINE_RANGES = "lineRanges";
+    private static final String LINE_RANGE = "lineRange";
     private static final String DEFAULT_ROOT_PATH = "/issue";
-    private static final String LOCATIONS_PATH = "locations/location";
+    private static final String LOCATIONS = "locations";
+    private static final String LOCATION = "location";
+    private static final String DESCENDANT = "//";
+    /** An element name that does not consist of dots only (the XPath steps {@code .} and {@code ..}). */
+    private static final String ELEMENT_NAME = "\\.*[\\w-][\\w.-]*";
+    private static final Pattern SIMPLE_PATH = Pattern.compile(
+            "(/{0,2})(" + ELEMENT_NAME + "(?:/" + ELEMENT_NAME + ")*)");
 
     /**
      * Create a new {@link XmlParser} instance.
@@ -75,75 +85,131 @@ public class XmlParser extends IssueParser {
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) {
         try (var issueBuilder = new IssueBuilder()) {
-            var doc = readerFactory.readDocument();
-            var xPathFactory = XPathFactory.newInstance();
-            var path = xPathFactory.newXPath();
-            var issues = (NodeList) path.evaluate(getXmlIssueRoot(), doc, XPathConstants.NODESET);
-
             var report = new Report();
 
             var fileNames = new TreeStringBuilder(); // for interning file names
-            for (Element issue : XmlElementUtil.nodeListToList(issues)) {
-                issueBuilder.setMessage(path.evaluate(MESSAGE, issue))
-                        .setCategory(path.evaluate(CATEGORY, issue))
-                        .setType(path.evaluate(TYPE, issue))
-                        .setSeverity(Severity.valueOf(path.evaluate(SEVERITY, issue), Severity.WARNING_NORMAL))
-                        .setDescription(path.evaluate(DESCRIPTION, issue))
-                        .setPackageName(path.evaluate(PACKAGE_NAME, issue))
-                        .setModuleName(path.evaluate(MODULE_NAME, issue))
-                        .setFingerprint(path.evaluate(FINGERPRINT, issue))
-                        .setAdditionalProperties(path.evaluate(ADDITIONAL_PROPERTIES, issue));
-
-                readLocations(issue, path, issueBuilder, fileNames);
-                if (!issueBuilder.hasLocations()) { // Fallback to the old line range format
-                    readLineRanges(issue, path, issueBuilder, fileNames);
+            var elementPath = getElementPath();
+            if (elementPath.isPresent()) {
+                try (var issues = readerFactory.readElements(elementPath.get())) {
+                    issues.forEach(issue -> report.add(readIssue(issue, issueBuilder, fileNames)));
+                }
+            }
+            else {
+                for (Element issue : evaluateXmlIssueRoot(readerFactory)) {
+                    report.add(readIssue(issue, issueBuilder, fileNames));
                 }
-
-                report.add(issueBuilder.buildAndClean());
             }
             return report;
         }
+    }
+
+    private List<Element> evaluateXmlIssueRoot(final ReaderFactory readerFactory) {
+        try {
+            var doc = readerFactory.readDocument();
+            var xPathFactory = XPathFactory.newInstance();
+            var path = xPathFactory.newXPath();
+            return XmlElementUtil.nodeListToList(
+                    (NodeList) path.evaluate(getXmlIssueRoot(), doc, XPathConstants.NODESET));
+        }
         catch (XPathExpressionException e) {
             throw new ParsingException(e, readerFactory);
         }
     }
 
-    private void readLineRanges(final Element issue, final XPath path, final IssueBuilder issueBuilder,
-            final TreeStringBuilder fileNames)
-            throws XPathExpressionException {
-        var fileName = readFileName(issue, path, fileNames);
+    /**
+     * Returns the path of the issue elements if the root of the issues is a simple XPath expression that just
+     * consists of element names (e.g., {@code /report/issue} or {@code //issue}). In this case, the issues can be
+     * streamed using {@link ReaderFactory#readElements(String...)}. Otherwise, the whole document needs to be read
+     * to evaluate the XPath expression.
+     *
+     * @return the path of the issue elements, or an empty optional if the XPath expression is too complex
+     */
+    private Optional<String> getElementPath() {
+        var matcher = SIMPLE_PATH.matcher(getXmlIssueRoot());
+        if (matcher.matches()) {
+            if (DESCENDANT.equals(matcher.group(1))) {
+                return Optional.of(matcher.group(2));
+            }
+            return Optional.of("/" + matcher.group(2)); // relative XPath expressions start at the document
+        }
+        return Optional.empty();
+    }
+
+    private Issue readIssue(final Element issue, final IssueBuilder issueBuilder,
+            final TreeStringBuilder fileNames) {
+        issueBuilder.setMessage(readString(issue, MESSAGE))
+                .setCategory(readString(issue, CATEGORY))
+                .setType(readString(issue, TYPE))
+                .setSeverity(Severity.valueOf(readString(issue, SEVERITY), Severity.WARNING_NORMAL))
+                .setDescription(readString(issue, DESCRIPTION))
+                .setPackageName(readString(issue, PACKAGE_NAME))
+                .setModuleName(readString(issue, MODULE_NAME))
+                .setFingerprint(readString(issue, FINGERPRINT))
+                .setAdditionalProperties(readString(issue, ADDITIONAL_PROPERTIES));
+
+        readLocations(issue, issueBuilder, fileNames);
+        if (!issueBuilder.hasLocations()) { // Fallback to the old line range format
+            readLineRanges(issue, issueBuilder, fileNames);
+        }
+
+        return issueBuilder.buildAndClean();
+    }
+
+    private void readLineRanges(final Element issue, final IssueBuilder issueBuilder,
+            final TreeStringBuilder fileNames) {
+        var fileName = readFileName(issue, fileNames);
         issueBuilder.addLocation(new Location(fileName,
-                readInt(issue, path, LINE_START), readInt(issue, path, LINE_END),
-                readInt(issue, path, COLUMN_START), readInt(issue, path, COLUMN_END)));
-        var lineElements = XmlElementUtil.nodeListToList(
-                (NodeList) path.evaluate(LINE_RANGES_PATH, issue, XPathConstants.NODESET));
-        for (Element lineRange : lineElements) {
+                readInt(issue, LINE_START), readInt(issue, LINE_END),
+                readInt(issue, COLUMN_START), readInt(issue, COLUMN_END)));
+        for (Element lineRange : getGrandChildElements(issue, LINE_RANGES, LINE_RANGE)) {
             issueBuilder.addLocation(new Location(fileName,
-                    readInt(lineRange, path, LINE_RANGE_START), readInt(lineRange, path, LINE_RANGE_END)));
+                    readInt(lineRange, LINE_RANGE_START), readInt(lineRange, LINE_RANGE_END)));
         }
     }
 
-    private TreeString readFileName(final Element issue, final XPath path, final TreeStringBuilder fileNames)
-            throws XPathExpressionException {
+    private TreeString readFileName(final Element issue, final TreeStringBuilder fileNames) {
         return fileNames.intern(
-                StringUtils.defaultIfEmpty(path.evaluate(FILE_NAME, issue), "-"));
+                StringUtils.defaultIfEmpty(readString(issue, FILE_NAME), "-"));
+    }
+
+    private int readInt(final Element issue, final String elementName) {
+        return IntegerParser.parseInt(readString(issue, elementName));
+    }
+
+    /**
+     * Returns the text content of the first child element with the specified name. This is the same value that the
+     * XPath expression {@code elementName} would return, without the overhead of compiling and evaluating an XPath
+     * expression for each issue.
+     *
+     * @param parent
+     *         the parent element
+     * @param elementName
+     *         the name of the child element
+     *
+     * @return the text content of the child, or an empty string if there is no such child
+     */
+    private String readString(final Element parent, final String elementName) {
+        return XmlElementUtil.getFirstChildElementByName(parent, elementName)
+                .map(Element::getTextContent)
+                .orElse(StringUtils.EMPTY);
     }
 
-    private int readInt(final Element issue, final XPath path, final String elementName)
-            throws XPathExpressionException {
-        return IntegerParser.parseInt(path.evaluate(elementName, issue));
+    private List<Element> getGrandChildElements(final Element parent, final String childName,
+            final String grandChildName) {
+        List<Element> elements = new ArrayList<>();
+        for (Element child : XmlElementUtil.getChildElementsByName(parent, childName)) {
+            elements.addAll(XmlElementUtil.getChildElementsByName(child, grandChildName));
+        }
+        return elements;
     }
 
-    private void readLocations(final Element issue, final XPath path,
-            final IssueBuilder issueBuilder, final TreeStringBuilder fileNames)
-            throws XPathExpressionException {
-        var locations = XmlElementUtil.nodeListToList(
-                (NodeList) path.evaluate(LOCATIONS_PATH, issue, XPathConstants.NODESET));
-        for (Element location : locations) {
-            var fileName = readFileName(location, path, fileNames);
+    private void readLocations(final Element issue,
+            final IssueBuilder issueBuilder, final TreeStringBuilder fileNames) {
+        for (Element location : getGrandChildElements(issue, LOCATIONS, LOCATION)) {
+            var fileName = readFileName(location, fileNames);
             issueBuilder.addLocation(new Location(fileName,
-                    readInt(location, path, LINE_START), readInt(location, path, LINE_END),
-                    readInt(location, path, COLUMN_START), readInt(location, path, COLUMN_END)));
+                    readInt(location, LINE_START), readInt(location, LINE_END),
+                    readInt(location, COLUMN_START), readInt(location, COLUMN_END)));
         }
     }
 }
@@ -13,7 +13,10 @@ import edu.hm.hafner.util.TreeString;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import se.bjurr.violations.lib.ViolationsLogger;
 import se.bjurr.violations.lib.model.SEVERITY;
@@ -32,21 +35,66 @@ public abstract class AbstractViolationAdapter extends IssueParser {
     @Serial
     private static final long serialVersionUID = 7203311857999721045L;
 
-    @SuppressWarnings({"illegalcatch", "OverlyBroadCatchBlock"})
     @Override
     protected Report parseReport(final ReaderFactory readerFactory)
             throws ParsingCanceledException, ParsingException {
+        var parser = createParser();
+        List<Report> reports = new ArrayList<>();
+        try {
+            readChunks(readerFactory, chunk -> reports.add(parseChunk(parser, chunk, readerFactory)));
+        }
+        catch (ParsingException exception) {
+            reports.clear(); // the parser of the library might still be able to read the whole report
+            reports.add(parseChunk(parser, readerFactory.readString(), readerFactory));
+        }
+        if (reports.isEmpty()) {
+            return new Report();
+        }
+
+        var report = reports.get(0);
+        for (int i = 1; i < reports.size(); i++) {
+            merge(report, reports.get(i));
+        }
+        return report;
+    }
+
+    private void merge(final Report report, final Report chunk) {
+        report.addAll(chunk.get());
+        chunk.getInfoMessages().forEach(message -> report.logInfo("%s", message));
+        chunk.getErrorMessages().forEach(message -> report.logError("%s", message));
+    }
+
+    @SuppressWarnings({"illegalcatch", "OverlyBroadCatchBlock"})
+    private Report parseChunk(final ViolationsParser parser, final String chunk, final ReaderFactory readerFactory) {
         try {
-            var parser = createParser();
-            Set<Violation> violations = parser.parseReportOutput(readerFactory.readString(),
-                    new NullViolationsLogger());
-            return convertToReport(violations);
+            return convertToReport(parser.parseReportOutput(chunk, new NullViolationsLogger()));
         }
         catch (Exception exception) {
             throw new ParsingException(exception, readerFactory);
         }
     }
 
+    /**
+     * Reads the report and passes its content to the specified consumer. This default implementation reads the whole
+     * report into a single chunk. Subclasses may override to split large reports into several chunks that can be
+     * parsed independently of each other by the {@link ViolationsParser}, see {@link ReportSplitter}. Then the
+     * report will be read incrementally: each chunk will be parsed and converted into issues before the next chunk is
+     * read. Note that the issues of a split report are ordered by chunk, so their order might differ from the order of
+     * the issues of the whole report. If the report cannot be split (e.g., since it is empty, truncated, or not
+     * well-formed), then the partial results are discarded and the whole report is parsed as a single chunk.
+     *
+     * @param readerFactory
+     *         the factory that provides the report
+     * @param consumer
+     *         the consumer of the chunks
+     *
+     * @throws ParsingException
+     *         if the report could not be read
+     */
+    void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+        consumer.accept(readerFactory.readString());
+    }
+
     /**
      * Creates a new parser instance.
      *
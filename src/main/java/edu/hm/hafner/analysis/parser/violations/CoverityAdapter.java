@@ -1,6 +1,9 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import edu.hm.hafner.analysis.ReaderFactory;
+
 import java.io.Serial;
+import java.util.function.Consumer;
 
 import se.bjurr.violations.lib.parsers.CoverityParser;
 
@@ -13,8 +16,15 @@ public class CoverityAdapter extends AbstractViolationAdapter {
     @Serial
     private static final long serialVersionUID = -8210423965588732109L;
 
+    private static final String ISSUES = "issues";
+
     @Override
     CoverityParser createParser() {
         return new CoverityParser();
     }
+
+    @Override
+    void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+        ReportSplitter.splitJson(readerFactory, ISSUES, ReportSplitter.CHUNK_SIZE, consumer);
+    }
 }
@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis.parser.violations;
 
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.Location;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.util.IntegerParser;
 import edu.hm.hafner.util.TreeStringBuilder;
@@ -10,6 +11,7 @@ import java.io.Serial;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import se.bjurr.violations.lib.model.Violation;
 import se.bjurr.violations.lib.parsers.CPPCheckParser;
@@ -23,12 +25,19 @@ public class CppCheckAdapter extends AbstractViolationAdapter {
     @Serial
     private static final long serialVersionUID = 2244442395053328008L;
     private static final String ORDER_KEY = "order";
+    private static final String NESTED_ERROR = "/results/errors/error";
+    private static final String ERROR = "/results/error";
 
     @Override
     CPPCheckParser createParser() {
         return new CPPCheckParser();
     }
 
+    @Override
+    void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+        ReportSplitter.splitXml(readerFactory, ReportSplitter.CHUNK_SIZE, consumer, NESTED_ERROR, ERROR);
+    }
+
     @Override
     Report convertToReport(final Set<Violation> violations) {
         try (var issueBuilder = new IssueBuilder()) {
@@ -6,6 +6,7 @@ import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 
 import java.io.Serial;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import se.bjurr.violations.lib.parsers.JUnitParser;
 
@@ -27,11 +28,18 @@ public class JUnitAdapter extends AbstractViolationAdapter {
     /** Report property key to obtain the number of skipped tests. */
     public static final String SKIPPED_TESTS = "skippedTests";
 
+    private static final String TEST_SUITE = "testsuite";
+
     @Override
     JUnitParser createParser() {
         return new JUnitParser();
     }
 
+    @Override
+    void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+        ReportSplitter.splitXml(readerFactory, ReportSplitter.CHUNK_SIZE, consumer, TEST_SUITE);
+    }
+
     @Override
     protected Report parseReport(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
         var report = super.parseReport(readerFactory);
@@ -0,0 +1,230 @@
+package edu.hm.hafner.analysis.parser.violations;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.util.SecureXmlParserFactory;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Splits large XML or JSON reports into chunks that can be parsed independently of each other by a
+ * {@link se.bjurr.violations.lib.parsers.ViolationsParser}. Each chunk is a valid report that contains a batch of
+ * consecutive elements of the original report (e.g., the test suites of a JUnit report or the results of a SARIF
+ * run). The enclosing elements of the batch are copied into each chunk: XML chunks contain the ancestors of the
+ * elements with all attributes, JSON chunks contain the enclosing objects with all other members. The reports are
+ * read incrementally, so only one chunk needs to be kept in memory.
+ *
+ * <p>
+ * Since the enclosing elements are repeated in each chunk, the elements of a chunk are at least as large as the
+ * enclosing text. E.g., if a SARIF run contains a large {@code rules} array, then its results are split into
+ * correspondingly larger chunks. So the chunks of a report are at most twice as large as the report itself.
+ * </p>
+ */
+final class ReportSplitter {
+    /** The number of characters of the elements after which a chunk will be completed. */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private static final String SEPARATOR = "/";
+    private static final String[] XML_SPECIAL_CHARACTERS = {"&", "<", ">", "\"", "\n", "\r", "\t"};
+    private static final String[] XML_ESCAPED_CHARACTERS = {"&amp;", "&lt;", "&gt;", "&quot;", "&#10;", "&#13;", "&#9;"};
+
+    /**
+     * Splits the specified XML report into chunks of the elements that match the specified paths. The elements of a
+     * chunk share the same parent element.
+     *
+     * @param readerFactory
+     *         the factory that provides the XML report
+     * @param chunkSize
+     *         the number of characters of the elements after which a chunk will be completed, at least the length
+     *         of the enclosing text
+     * @param consumer
+     *         the consumer of the chunks
+     * @param paths
+     *         the paths of the elements, see {@link ReaderFactory#readElements(String...)}
+     *
+     * @throws ParsingException
+     *         if the report could not be read
+     */
+    static void splitXml(final ReaderFactory readerFactory, final int chunkSize, final Consumer<String> consumer,
+            final String... paths) {
+        try (Stream<Element> elements = readerFactory.readElements(paths)) {
+            var transformer = new SecureXmlParserFactory().createTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+
+            var chunk = new Chunk<Node>(chunkSize, consumer,
+                    ReportSplitter::createStartTags, ReportSplitter::createEndTags, StringUtils.EMPTY);
+            for (var iterator = elements.iterator(); iterator.hasNext(); ) {
+                var element = iterator.next();
+                chunk.add(element.getParentNode(), serialize(transformer, element));
+            }
+            chunk.complete();
+        }
+        catch (TransformerException exception) {
+            throw new ParsingException(exception, readerFactory);
+        }
+    }
+
+    private static String serialize(final Transformer transformer, final Element element)
+            throws TransformerException {
+        var content = new StringWriter();
+        transformer.transform(new DOMSource(element), new StreamResult(content));
+        return content.toString();
+    }
+
+    private static String createStartTags(@CheckForNull final Node node) {
+        if (node instanceof Element element) {
+            var tag = new StringBuilder(createStartTags(element.getParentNode()));
+            tag.append('<').append(element.getTagName());
+            var attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                var attribute = (Attr) attributes.item(i);
+                tag.append(' ').append(attribute.getName()).append("=\"")
+                        .append(StringUtils.replaceEach(attribute.getValue(),
+                                XML_SPECIAL_CHARACTERS, XML_ESCAPED_CHARACTERS))
+                        .append('"');
+            }
+            return tag.append('>').toString();
+        }
+        return StringUtils.EMPTY;
+    }
+
+    private static String createEndTags(@CheckForNull final Node node) {
+        if (node instanceof Element element) {
+            return "</" + element.getTagName() + ">" + createEndTags(element.getParentNode());
+        }
+        return StringUtils.EMPTY;
+    }
+
+    /**
+     * Splits the specified JSON report into chunks of the elements of the arrays that match the specified path. The
+     * elements of a chunk share the same enclosing objects.
+     *
+     * @param readerFactory
+     *         the factory that provides the JSON report
+     * @param path
+     *         the path of the arrays, see {@link ReaderFactory#readJsonElements(String, java.util.function.BiConsumer)}
+     * @param chunkSize
+     *         the number of characters of the elements after which a chunk will be completed, at least the length
+     *         of the enclosing text
+     * @param consumer
+     *         the consumer of the chunks
+     *
+     * @throws ParsingException
+     *         if the report could not be read
+     */
+    static void splitJson(final ReaderFactory readerFactory, final String path, final int chunkSize,
+            final Consumer<String> consumer) {
+        var names = StringUtils.split(path, SEPARATOR);
+        var chunk = new Chunk<List<String>>(chunkSize, consumer,
+                enclosingObjects -> createStartOfArrays(enclosingObjects, names),
+                enclosingObjects -> createEndOfArrays(names), ",");
+        readerFactory.readJsonElements(path, chunk::add);
+        chunk.complete();
+    }
+
+    private static String createStartOfArrays(final List<String> enclosingObjects, final String[] names) {
+        var start = new StringBuilder();
+        for (int level = 0; level < names.length; level++) {
+            var enclosingObject = enclosingObjects.get(level);
+            start.append(enclosingObject, 0, enclosingObject.length() - 1);
+            if (enclosingObject.length() > 2) {
+                start.append(',');
+            }
+            start.append('"').append(names[level]).append("\":[");
+        }
+        if (names.length == 0) {
+            return "[";
+        }
+        return start.toString();
+    }
+
+    private static String createEndOfArrays(final String[] names) {
+        if (names.length == 0) {
+            return "]";
+        }
+        return "]}".repeat(names.length);
+    }
+
+    private ReportSplitter() {
+        // prevents instantiation
+    }
+
+    /**
+     * A chunk of consecutive elements that share the same enclosing elements. A chunk is passed to the consumer as
+     * soon as the enclosing elements change or the chunk is full. A chunk is full if its elements are larger than the
+     * chunk size and larger than the text of the enclosing elements.
+     *
+     * @param <T>
+     *         the type of the enclosing elements
+     */
+    private static final class Chunk<T> {
+        private final int chunkSize;
+        private final Consumer<String> consumer;
+        private final Function<T, String> startOfChunk;
+        private final Function<T, String> endOfChunk;
+        private final String separator;
+
+        private final StringBuilder content = new StringBuilder();
+        @CheckForNull
+        private T enclosing;
+        private String end = StringUtils.EMPTY;
+        private int startLength;
+        private int size;
+
+        Chunk(final int chunkSize, final Consumer<String> consumer, final Function<T, String> startOfChunk,
+                final Function<T, String> endOfChunk, final String separator) {
+            this.chunkSize = chunkSize;
+            this.consumer = consumer;
+            this.startOfChunk = startOfChunk;
+            this.endOfChunk = endOfChunk;
+            this.separator = separator;
+        }
+
+        void add(final T enclosingElements, final String element) {
+            if (size > 0 && (isFull() || !Objects.equals(enclosing, enclosingElements))) {
+                complete();
+            }
+            if (size == 0) {
+                enclosing = enclosingElements;
+                content.append(startOfChunk.apply(enclosingElements));
+                startLength = content.length();
+                end = endOfChunk.apply(enclosingElements); // the enclosing elements might change until completion
+            }
+            else {
+                content.append(separator);
+            }
+            content.append(element);
+            size++;
+        }
+
+        private boolean isFull() {
+            return content.length() - startLength >= Math.max(chunkSize, startLength + end.length());
+        }
+
+        void complete() {
+            if (size > 0) {
+                consumer.accept(content.append(end).toString());
+            }
+            content.setLength(0);
+            enclosing = null;
+            size = 0;
+        }
+    }
+}
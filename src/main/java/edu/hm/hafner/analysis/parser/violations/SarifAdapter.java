@@ -1,8 +1,11 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import edu.hm.hafner.analysis.ReaderFactory;
+
 import java.io.Serial;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import se.bjurr.violations.lib.model.Violation;
 import se.bjurr.violations.lib.parsers.SarifParser;
@@ -16,6 +19,7 @@ public class SarifAdapter extends AbstractViolationAdapter {
     @Serial
     private static final long serialVersionUID = -5699747899173867285L;
 
+    private static final String RESULTS = "runs/results";
     private static final Pattern WINDOWS_PATH_ON_UNIX = Pattern.compile("^/[a-zA-Z]:.*");
 
     @Override
@@ -23,6 +27,11 @@ public class SarifAdapter extends AbstractViolationAdapter {
         return new SarifParser();
     }
 
+    @Override
+    void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+        ReportSplitter.splitJson(readerFactory, RESULTS, ReportSplitter.CHUNK_SIZE, consumer);
+    }
+
     @Override
     protected String getFileName(final Violation violation) {
         var fileName = violation.getFile();
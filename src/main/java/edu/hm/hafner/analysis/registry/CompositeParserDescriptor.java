@@ -1,6 +1,7 @@
 package edu.hm.hafner.analysis.registry;
 
 import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.LookaheadParser;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 
@@ -12,7 +13,9 @@ import java.util.List;
 
 /**
  * A {@link CompositeParserDescriptor} is composed of several tools. Every parser of this suite will be called on the
- * input file, the results will be aggregated afterward.
+ * input file, the results will be aggregated afterward. All line based parsers of the suite (i.e., all
+ * {@link LookaheadParser} instances) scan the input file together in a single pass, so the file is read and decoded
+ * only once for these parsers.
  *
  * @author Ullrich Hafner
  */
@@ -81,15 +84,22 @@ abstract class CompositeParserDescriptor extends ParserDescriptor {
 
         @Override
         protected Report parseReport(final ReaderFactory readerFactory) {
-            var aggregated = new Report(getId(), getName(), readerFactory.getFileName(), getType());
+            List<IssueParser> acceptingParsers = new ArrayList<>();
             for (IssueParser parser : parsers) {
                 if (parser.accepts(readerFactory)) {
                     parser.setId(getId());
                     parser.setName(getName());
                     parser.setType(getType());
-                    aggregated.addAll(parser.parse(readerFactory));
+                    acceptingParsers.add(parser);
                 }
             }
+
+            var reports = ConsoleLogScanner.parse(acceptingParsers, readerFactory);
+
+            var aggregated = new Report(getId(), getName(), readerFactory.getFileName(), getType());
+            for (IssueParser parser : acceptingParsers) {
+                aggregated.addAll(reports.get(parser));
+            }
             return aggregated;
         }
     }
@@ -0,0 +1,156 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SinglePassScanner;
+import edu.hm.hafner.util.Ensure;
+
+/**
+ * Scans a console log with the parsers of several tools in a single pass. The parsers are selected by the IDs of their
+ * descriptors in the {@link ParserRegistry}. All line based parsers (i.e., all {@link LookaheadParser} instances,
+ * including the line based parsers of composite tools like gcc or java) scan the console log together: the log is read
+ * and decoded only once, and each line is filtered and matched by all parsers in the same loop. All other parsers
+ * parse the console log on their own.
+ */
+public class ConsoleLogScanner {
+    private final List<ParserDescriptor> descriptors = new ArrayList<>();
+
+    /**
+     * Creates a new instance of {@link ConsoleLogScanner}.
+     *
+     * @param ids
+     *         the IDs of the parsers to use, see {@link ParserRegistry#getIds()}
+     *
+     * @throws NoSuchElementException
+     *         if one of the parsers does not exist
+     */
+    public ConsoleLogScanner(final String... ids) {
+        this(Arrays.asList(ids));
+    }
+
+    /**
+     * Creates a new instance of {@link ConsoleLogScanner}.
+     *
+     * @param ids
+     *         the IDs of the parsers to use, see {@link ParserRegistry#getIds()}
+     *
+     * @throws NoSuchElementException
+     *         if one of the parsers does not exist
+     */
+    public ConsoleLogScanner(final Collection<String> ids) {
+        Ensure.that(ids).isNotEmpty("No parser IDs given.");
+
+        var registry = new ParserRegistry();
+        for (String id : ids) {
+            var descriptor = registry.get(id);
+            if (!descriptors.contains(descriptor)) {
+                descriptors.add(descriptor);
+            }
+        }
+    }
+
+    /**
+     * Scans the specified console log with the parsers of all selected tools.
+     *
+     * @param readerFactory
+     *         factory to read the console log
+     *
+     * @return the report of each tool, mapped by the ID of the tool (in the order of the given IDs)
+     * @throws ParsingException
+     *         signals that during parsing a non-recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         signals that the user has aborted the parsing
+     */
+    public Map<String, Report> scan(final ReaderFactory readerFactory)
+            throws ParsingException, ParsingCanceledException {
+        Map<ParserDescriptor, List<IssueParser>> parsersByTool = new LinkedHashMap<>();
+        List<IssueParser> allParsers = new ArrayList<>();
+        for (ParserDescriptor descriptor : descriptors) {
+            var parsers = createParsers(descriptor, readerFactory);
+            parsersByTool.put(descriptor, parsers);
+            allParsers.addAll(parsers);
+        }
+
+        var reports = parse(allParsers, readerFactory);
+
+        Map<String, Report> reportsByTool = new LinkedHashMap<>();
+        for (Map.Entry<ParserDescriptor, List<IssueParser>> tool : parsersByTool.entrySet()) {
+            var descriptor = tool.getKey();
+            if (descriptor instanceof CompositeParserDescriptor) {
+                var aggregated = new Report(descriptor.getId(), descriptor.getName(), readerFactory.getFileName(),
+                        descriptor.getType());
+                for (IssueParser parser : tool.getValue()) {
+                    aggregated.addAll(reports.get(parser));
+                }
+                reportsByTool.put(descriptor.getId(), aggregated);
+            }
+            else {
+                reportsByTool.put(descriptor.getId(), reports.get(tool.getValue().get(0)));
+            }
+        }
+        return reportsByTool;
+    }
+
+    private List<IssueParser> createParsers(final ParserDescriptor descriptor, final ReaderFactory readerFactory) {
+        if (descriptor instanceof CompositeParserDescriptor composite) {
+            List<IssueParser> parsers = new ArrayList<>();
+            for (IssueParser parser : composite.createParsers()) {
+                if (parser.accepts(readerFactory)) {
+                    parser.setId(descriptor.getId());
+                    parser.setName(descriptor.getName());
+                    parser.setType(descriptor.getType());
+                    parsers.add(parser);
+                }
+            }
+            return parsers;
+        }
+        return List.of(descriptor.createParser());
+    }
+
+    /**
+     * Parses the specified report file with all given parsers. The line based parsers scan the report file together in
+     * a single pass, all other parsers parse the report file on their own.
+     *
+     * @param parsers
+     *         the parsers to use
+     * @param readerFactory
+     *         factory to read the report file
+     *
+     * @return the report of each parser
+     */
+    static Map<IssueParser, Report> parse(final List<IssueParser> parsers, final ReaderFactory readerFactory) {
+        List<LookaheadParser> lineParsers = new ArrayList<>();
+        for (IssueParser parser : parsers) {
+            if (parser instanceof LookaheadParser lineParser) {
+                lineParsers.add(lineParser);
+            }
+        }
+
+        Map<IssueParser, Report> reports = new IdentityHashMap<>();
+        if (lineParsers.size() > 1) {
+            var lineReports = new SinglePassScanner(lineParsers).scan(readerFactory);
+            for (int i = 0; i < lineParsers.size(); i++) {
+                reports.put(lineParsers.get(i), lineReports.get(i));
+            }
+        }
+        for (IssueParser parser : parsers) {
+            if (!reports.containsKey(parser)) {
+                reports.put(parser, parser.parse(readerFactory));
+            }
+        }
+        return reports;
+    }
+}
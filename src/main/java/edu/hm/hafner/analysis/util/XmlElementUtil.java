@@ -53,7 +53,16 @@ public final class XmlElementUtil {
      * @return the first element if there is a match, {@link Optional#empty()} otherwise
      */
     public static Optional<Element> getFirstChildElementByName(final Element parent, final String name) {
-        return getChildElementsByName(parent, name).stream().findFirst();
+        if (parent != null) {
+            var child = parent.getFirstChild();
+            while (child != null) {
+                if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equals(name)) {
+                    return Optional.of((Element) child);
+                }
+                child = child.getNextSibling();
+            }
+        }
+        return Optional.empty();
     }
 
     /**
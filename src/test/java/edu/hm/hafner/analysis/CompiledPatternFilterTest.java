@@ -0,0 +1,60 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link CompiledPatternFilter}.
+ */
+class CompiledPatternFilterTest {
+    @ParameterizedTest(name = "[{index}] Pattern \"{0}\"")
+    @ValueSource(strings = {"something", ".*something.*", ".*something", "something.*", "^Before", "^Before.*",
+            "some.hing", "[a-z]+ing", "^B.*After$", "(?i)SOMETHING", "(some)thing \\1", "\\Qsome\\E", "", ".*",
+            "a\\.*", "^.*else"})
+    void shouldBehaveLikeFind(final String pattern) {
+        var filter = CompiledPatternFilter.compile(List.of(pattern));
+
+        for (String value : List.of("something", " something ", "Before something After", "Before\nsomething",
+                "something\nelse", "nothing", "some thing some", "a...", "")) {
+            assertThat(filter.test(value)).as("Value '%s'", value)
+                    .isEqualTo(Pattern.compile(pattern, Pattern.DOTALL).matcher(value).find());
+        }
+    }
+
+    @Test
+    void shouldMergeRegularExpressionsIntoSingleAutomaton() {
+        var filter = CompiledPatternFilter.compile(List.of("literal", "^prefix", "a+b", "c[0-9]d", "(x)\\1"));
+
+        assertThat(filter.getNumberOfAutomatons()).isEqualTo(2);
+        assertThat(filter.test("literally")).isTrue();
+        assertThat(filter.test("prefix-value")).isTrue();
+        assertThat(filter.test("no-prefix")).isFalse();
+        assertThat(filter.test("aaab")).isTrue();
+        assertThat(filter.test("c5d")).isTrue();
+        assertThat(filter.test("xx")).isTrue();
+        assertThat(filter.test("x")).isFalse();
+    }
+
+    @Test
+    void shouldCacheCompiledFilters() {
+        CompiledPatternFilter.clearCache();
+
+        var first = CompiledPatternFilter.compile(List.of("one", "t[w]o"));
+        assertThat(CompiledPatternFilter.compile(List.of("one", "t[w]o"))).isSameAs(first);
+        assertThat(CompiledPatternFilter.compile(List.of("t[w]o", "one"))).isNotSameAs(first);
+        assertThat(CompiledPatternFilter.getCacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectInvalidPatterns() {
+        assertThatExceptionOfType(PatternSyntaxException.class)
+                .isThrownBy(() -> CompiledPatternFilter.compile(List.of("valid", "a)|(?:b")));
+    }
+}
@@ -6,8 +6,14 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
 
 import com.google.errorprone.annotations.MustBeClosed;
 
@@ -86,6 +92,173 @@ class FileReaderFactoryTest extends ResourceTest {
         assertThat(factory.getCharset()).isEqualTo(UTF_8);
     }
 
+    @Test
+    void shouldSplitFileIntoChunksOfCompleteLines(@TempDir final Path workspace) throws IOException {
+        var file = workspace.resolve("log.txt");
+        var content = new StringBuilder("\uFEFF");
+        for (int i = 0; i < 100; i++) {
+            content.append("Line ").append(i).append(": äöü").append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("\n\nLast line without line break");
+        Files.writeString(file, content, UTF_8);
+
+        var factory = new FileReaderFactory(file, UTF_8);
+        var expected = factory.readString();
+
+        for (int numberOfChunks = 1; numberOfChunks < 10; numberOfChunks++) {
+            var chunks = factory.split(numberOfChunks, 10);
+
+            assertThat(chunks).hasSize(numberOfChunks);
+            assertThat(chunks.stream().map(ReaderFactory::readString).collect(Collectors.joining("\n")))
+                    .isEqualTo(expected);
+            assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getFileName()).isEqualTo(factory.getFileName()));
+        }
+    }
+
+    @Test
+    void shouldNotSplitSmallFilesOrFilesWithMultiByteLineBreaks(@TempDir final Path workspace) throws IOException {
+        var utf8 = Files.writeString(workspace.resolve("utf-8.txt"), "First\nSecond\nThird\n", UTF_8);
+
+        assertThat(new FileReaderFactory(utf8, UTF_8).split(3)).hasSize(1);
+        assertThat(new FileReaderFactory(utf8, UTF_8).split(3, 1)).hasSizeGreaterThan(1);
+
+        var utf16 = Files.writeString(workspace.resolve("utf-16.txt"), "First\nSecond\nThird\n",
+                StandardCharsets.UTF_16);
+
+        assertThat(new FileReaderFactory(utf16, StandardCharsets.UTF_16).split(3, 1)).hasSize(1);
+    }
+
+    @Test
+    void shouldStreamMatchingElements(@TempDir final Path workspace) throws IOException {
+        var file = Files.writeString(workspace.resolve("report.xml"), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <report>
+                  <tool name="first">
+                    <!-- comment -->
+                    <issue line="1"><message>One &amp; <![CDATA[<two>]]></message></issue>
+                    <issue line="2"><issue line="3"/></issue>
+                  </tool>
+                  <issue line="4"/>
+                  <tool name="second">
+                    <issue line="5"/>
+                  </tool>
+                </report>
+                """, UTF_8);
+        var factory = new FileReaderFactory(file, UTF_8);
+
+        try (var elements = factory.readElements("tool/issue")) {
+            assertThat(elements.map(element -> element.getAttribute("line") + ":"
+                    + ((Element) element.getParentNode()).getAttribute("name") + ":"
+                    + element.getTextContent())).containsExactly("1:first:One & <two>", "2:first:", "5:second:");
+        }
+        try (var elements = factory.readElements("/report/issue", "issue/issue")) {
+            assertThat(elements.map(element -> element.getAttribute("line"))).containsExactly("3", "4");
+        }
+        try (var elements = factory.readElements("/issue")) {
+            assertThat(elements).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldThrowParsingExceptionForBrokenXml(@TempDir final Path workspace) throws IOException {
+        var file = Files.writeString(workspace.resolve("broken.xml"), "<report><issue></report>", UTF_8);
+        var factory = new FileReaderFactory(file, UTF_8);
+
+        try (var elements = factory.readElements("issue")) {
+            assertThatExceptionOfType(ParsingException.class).isThrownBy(elements::count);
+        }
+    }
+
+    @Test
+    void shouldReadJsonElements(@TempDir final Path workspace) throws IOException {
+        var file = Files.writeString(workspace.resolve("report.json"), """
+                {
+                  "runs": [
+                    {"results": [{"id": 1, "text": "[\\"}\\"]"}, 2], "tool": "first"},
+                    {"tool": "second", "results": "none"},
+                    {"results": [true, null]}
+                  ],
+                  "version": 2.1
+                }
+                """, UTF_8);
+        var factory = new FileReaderFactory(file, UTF_8);
+
+        List<String> elements = new ArrayList<>();
+        factory.readJsonElements("runs/results", (objects, element) -> elements.add(objects + " " + element));
+        assertThat(elements).containsExactly(
+                "[{\"version\":2.1}, {\"tool\":\"first\"}] {\"id\": 1, \"text\": \"[\\\"}\\\"]\"}",
+                "[{\"version\":2.1}, {\"tool\":\"first\"}] 2",
+                "[{\"version\":2.1}, {}] true",
+                "[{\"version\":2.1}, {}] null");
+
+        elements.clear();
+        factory.readJsonElements("", (objects, element) -> elements.add(element));
+        assertThat(elements).isEmpty();
+    }
+
+    @Test
+    void shouldReadJsonElementsOfRootArrayInSingleScan(@TempDir final Path workspace) throws IOException {
+        var array = Files.writeString(workspace.resolve("array.json"), "[{\"id\": 1}, 2]", UTF_8);
+        var object = Files.writeString(workspace.resolve("object.json"),
+                "{\"Results\": [3], \"version\": 2}", UTF_8);
+        var arrayFactory = new CountingReaderFactory(array);
+        var objectFactory = new CountingReaderFactory(object);
+
+        List<String> elements = new ArrayList<>();
+        BiConsumer<List<String>, String> handler = (objects, element) -> elements.add(objects + " " + element);
+        arrayFactory.readJsonElementsOrRootArray("Results", handler);
+        objectFactory.readJsonElementsOrRootArray("Results", handler);
+
+        assertThat(elements).containsExactly("[] {\"id\": 1}", "[] 2", "[{\"version\":2}] 3");
+        assertThat(arrayFactory.count).isOne();
+        assertThat(objectFactory.count).isEqualTo(2);
+
+        elements.clear();
+        new FileReaderFactory(array, UTF_8).readJsonElements("Results", (objects, element) -> elements.add(element));
+        assertThat(elements).isEmpty();
+    }
+
+    @Test
+    void shouldReadJsonRootObjectWithoutElements(@TempDir final Path workspace) throws IOException {
+        var object = Files.writeString(workspace.resolve("object.json"),
+                "{\"total\": 2, \"issues\": [{\"id\": 1}, {\"id\": 2}], \"components\": [{\"key\": \"a\"}]}",
+                UTF_8);
+        var factory = new CountingReaderFactory(object);
+
+        assertThat(factory.readJsonRootObject("issues")).contains("{\"total\":2,\"components\":[{\"key\": \"a\"}]}");
+        assertThat(factory.count).isOne();
+
+        var array = Files.writeString(workspace.resolve("array.json"), "[{\"id\": 1}]", UTF_8);
+        assertThat(new FileReaderFactory(array, UTF_8).readJsonRootObject("issues")).isEmpty();
+    }
+
+    @Test
+    void shouldThrowParsingExceptionForBrokenJson(@TempDir final Path workspace) throws IOException {
+        var file = Files.writeString(workspace.resolve("broken.json"), "{\"issues\": [{\"id\": 1}", UTF_8);
+        var factory = new FileReaderFactory(file, UTF_8);
+
+        assertThatExceptionOfType(ParsingException.class)
+                .isThrownBy(() -> factory.readJsonElements("issues", (objects, element) -> { }))
+                .withMessageContaining("Unexpected end of JSON document");
+    }
+
+    /**
+     * Counts the number of times the file has been opened.
+     */
+    private static class CountingReaderFactory extends FileReaderFactory {
+        private int count;
+
+        CountingReaderFactory(final Path file) {
+            super(file, UTF_8);
+        }
+
+        @Override @MustBeClosed
+        public Reader create() {
+            count++;
+            return super.create();
+        }
+    }
+
     private void assertEncoding(final FileReaderFactory factory, final Charset charset) {
         var document = factory.readDocument();
         assertThat(factory.getCharset()).isEqualTo(charset);
@@ -0,0 +1,140 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.analysis.FullTextFingerprint.FileSystem;
+import edu.hm.hafner.util.ResourceTest;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the class {@link FingerprintCache}.
+ */
+class FingerprintCacheTest extends ResourceTest {
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    @TempDir
+    private Path workspace;
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldNotReadSourceFileOnCacheHit() throws IOException {
+        var sourceFile = createSourceFile("Source.java");
+        var cacheFile = workspace.resolve("build").resolve("fingerprints.cache");
+
+        var firstFileSystem = createFileSystem();
+        var firstReport = createReport(sourceFile);
+        var firstCache = new FingerprintCache(cacheFile);
+        new FingerprintGenerator().setCache(firstCache)
+                .run(new FullTextFingerprint(3, firstFileSystem), firstReport, CHARSET);
+
+        verify(firstFileSystem, times(1)).readLinesFromFile(anyString(), any());
+        assertThat(firstReport.getInfoMessages()).contains("-> fingerprint cache: 0 hits, 3 misses");
+        assertThat(cacheFile).exists();
+
+        var secondFileSystem = createFileSystem();
+        var secondReport = createReport(sourceFile);
+        var secondCache = new FingerprintCache(cacheFile);
+        new FingerprintGenerator().setCache(secondCache)
+                .run(new FullTextFingerprint(3, secondFileSystem), secondReport, CHARSET);
+
+        verifyNoInteractions(secondFileSystem);
+        assertThat(secondReport.getInfoMessages()).contains("-> fingerprint cache: 3 hits, 0 misses");
+        assertThat(secondReport.get()).extracting(Issue::getFingerprint)
+                .containsExactlyElementsOf(firstReport.get().stream().map(Issue::getFingerprint).toList());
+        assertThat(secondCache.getHits()).isEqualTo(3);
+    }
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldRecomputeFingerprintsIfFileOrConfigurationHasChanged() throws IOException {
+        var sourceFile = createSourceFile("Source.java");
+        var cache = new FingerprintCache(workspace.resolve("fingerprints.cache"));
+
+        new FingerprintGenerator().setCache(cache)
+                .run(new FullTextFingerprint(3, createFileSystem()), createReport(sourceFile), CHARSET);
+
+        var otherLookAhead = createFileSystem();
+        new FingerprintGenerator().setCache(cache)
+                .run(new FullTextFingerprint(2, otherLookAhead), createReport(sourceFile), CHARSET);
+        verify(otherLookAhead, times(1)).readLinesFromFile(anyString(), any());
+
+        Files.writeString(sourceFile, "changed", CHARSET);
+        var changedFile = createFileSystem();
+        new FingerprintGenerator().setCache(cache)
+                .run(new FullTextFingerprint(2, changedFile), createReport(sourceFile), CHARSET);
+        verify(changedFile, times(1)).readLinesFromFile(anyString(), any());
+
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(9);
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFiles() throws IOException {
+        var cache = new FingerprintCache(workspace.resolve("fingerprints.cache"), 2);
+
+        var first = FingerprintCache.createKey(createSourceFile("First.java").toString(), 3, CHARSET).orElseThrow();
+        var second = FingerprintCache.createKey(createSourceFile("Second.java").toString(), 3, CHARSET).orElseThrow();
+        var third = FingerprintCache.createKey(createSourceFile("Third.java").toString(), 3, CHARSET).orElseThrow();
+
+        cache.put(first, Map.of(1, "FIRST"));
+        cache.put(second, Map.of(1, "SECOND"));
+        assertThat(cache.get(first, List.of(1))).contains(Map.of(1, "FIRST"));
+        cache.put(third, Map.of(1, "THIRD"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains(workspace.resolve("First.java").toString())).isTrue();
+        assertThat(cache.contains(workspace.resolve("Second.java").toString())).isFalse();
+        assertThat(cache.get(third, List.of(1, 2))).isEmpty();
+    }
+
+    @Test
+    void shouldNotCreateKeyForMissingFiles() {
+        assertThat(FingerprintCache.createKey(workspace.resolve("missing.txt").toString(), 3, CHARSET)).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreMissingCacheFile() throws IOException {
+        var cacheFile = workspace.resolve("fingerprints.cache");
+        var cache = new FingerprintCache(cacheFile);
+
+        cache.load();
+        cache.save();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cacheFile).doesNotExist();
+    }
+
+    @SuppressWarnings("MustBeClosedChecker")
+    private FileSystem createFileSystem() throws IOException {
+        var fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any())).thenAnswer(invocation -> asStream("context.txt"));
+        return fileSystem;
+    }
+
+    private Path createSourceFile(final String fileName) throws IOException {
+        return Files.write(workspace.resolve(fileName), readAllBytes("context.txt"));
+    }
+
+    private Report createReport(final Path sourceFile) {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            builder.setFileName(sourceFile.toString());
+            for (int line : new int[] {5, 10, 20}) {
+                report.add(builder.setLineStart(line).build());
+            }
+            return report;
+        }
+    }
+}
@@ -44,6 +44,32 @@ public class FingerprintGeneratorBenchmark extends AbstractBenchmark {
         generator.run(new FullTextFingerprint(), state.getMultipleIssuesReport(), CHARSET_AFFECTED_FILE);
     }
 
+    /**
+     * Benchmarking the {@link FingerprintGenerator} with multiple issues in batch mode.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     */
+    @Benchmark
+    public void benchmarkingMultipleIssuesInBatchMode(final BenchmarkState state) {
+        var generator = new FingerprintGenerator().setBatchMode(true);
+
+        generator.run(new FullTextFingerprint(), state.getMultipleIssuesReport(), CHARSET_AFFECTED_FILE);
+    }
+
+    /**
+     * Benchmarking the {@link FingerprintGenerator} with multiple issues in parallel mode.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     */
+    @Benchmark
+    public void benchmarkingMultipleIssuesInParallelMode(final BenchmarkState state) {
+        var generator = new FingerprintGenerator().setParallelMode(true);
+
+        generator.run(new FullTextFingerprint(), state.getMultipleIssuesReport(), CHARSET_AFFECTED_FILE);
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
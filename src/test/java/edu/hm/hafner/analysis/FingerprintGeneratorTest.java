@@ -12,6 +12,7 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -130,6 +131,104 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldReadEachFileOnlyOnceInBatchMode() throws IOException {
+        var sequential = createIssuesInSameFile();
+        var sequentialFileSystem = mock(FileSystem.class);
+        when(sequentialFileSystem.readLinesFromFile(anyString(), any()))
+                .thenAnswer(invocation -> asStream("context.txt"));
+        new FingerprintGenerator().run(new FullTextFingerprint(3, sequentialFileSystem), sequential,
+                CHARSET_AFFECTED_FILE);
+
+        var batched = createIssuesInSameFile();
+        var batchedFileSystem = mock(FileSystem.class);
+        when(batchedFileSystem.readLinesFromFile(anyString(), any()))
+                .thenAnswer(invocation -> asStream("context.txt"));
+        new FingerprintGenerator().setBatchMode(true).run(new FullTextFingerprint(3, batchedFileSystem), batched,
+                CHARSET_AFFECTED_FILE);
+
+        verify(sequentialFileSystem, times(sequential.size())).readLinesFromFile(anyString(), any());
+        verify(batchedFileSystem, times(1)).readLinesFromFile(anyString(), any());
+        assertThat(batched.get()).extracting(Issue::getFingerprint)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::getFingerprint).toList());
+        assertThat(batched.get(1).getFingerprint()).isEqualTo(batched.get(3).getFingerprint());
+        assertThat(batched.getInfoMessages()).contains("-> created fingerprints for 6 issues (skipped 0 issues)");
+    }
+
+    @Test
+    void shouldUseFallbackFingerprintForAllIssuesOfMissingFileInBatchMode() {
+        var report = createIssuesInSameFile();
+
+        new FingerprintGenerator().setBatchMode(true).run(new FullTextFingerprint(), report, CHARSET_AFFECTED_FILE);
+
+        assertThat(report.get()).allSatisfy(
+                issue -> assertThat(issue).hasFingerprint(FingerprintGenerator.createDefaultFingerprint(issue)));
+        assertThat(report.getErrorMessages()).containsOnlyOnce("- '%s' file not found".formatted(AFFECTED_FILE_NAME));
+    }
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldCreateSameFingerprintsInParallelMode() throws IOException {
+        var fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenAnswer(invocation -> asStream("context.txt"));
+        when(fileSystem.readLinesFromFile(endsWith("missing-1.txt"), any()))
+                .thenThrow(new NoSuchFileException("missing-1.txt"));
+        when(fileSystem.readLinesFromFile(endsWith("missing-2.txt"), any()))
+                .thenThrow(new UncheckedIOException(new MalformedInputException(1)));
+
+        var sequential = createIssuesInSeveralFiles();
+        new FingerprintGenerator().setParallelism(1).setBatchMode(true)
+                .run(new FullTextFingerprint(3, fileSystem), sequential, CHARSET_AFFECTED_FILE);
+
+        for (int parallelism : new int[] {2, 4, 16}) {
+            var parallel = createIssuesInSeveralFiles();
+            new FingerprintGenerator().setParallelism(parallelism)
+                    .run(new FullTextFingerprint(3, fileSystem), parallel, CHARSET_AFFECTED_FILE);
+
+            assertThat(parallel.get()).extracting(Issue::getFingerprint)
+                    .containsExactlyElementsOf(sequential.get().stream().map(Issue::getFingerprint).toList());
+            assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages()).contains(
+                    "- 'missing-1.txt' file not found",
+                    "- 'missing-2.txt', provided encoding '%s' seems to be wrong".formatted(CHARSET_AFFECTED_FILE));
+            assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages());
+        }
+    }
+
+    @Test
+    void shouldRejectIllegalParallelism() {
+        var generator = new FingerprintGenerator();
+
+        assertThatThrownBy(() -> generator.setParallelism(0)).hasMessageContaining("Parallelism must be positive");
+    }
+
+    private Report createIssuesInSeveralFiles() {
+        try (var builder = new IssueBuilder()) {
+            var report = createIssues();
+            for (int file = 0; file < 20; file++) {
+                builder.setFileName("file-" + file + ".txt");
+                for (int line = 1; line < 34; line += 4) {
+                    report.add(builder.setLineStart(line).build());
+                }
+            }
+            report.add(builder.setFileName("missing-1.txt").build());
+            report.add(builder.setFileName("missing-2.txt").build());
+            return report;
+        }
+    }
+
+    private Report createIssuesInSameFile() {
+        try (var builder = new IssueBuilder()) {
+            var report = createIssues();
+            builder.setFileName(AFFECTED_FILE_NAME);
+            for (int line : new int[] {33, 10, 5, 20, 0, 100}) {
+                report.add(builder.setLineStart(line).build());
+            }
+            return report;
+        }
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename {0}")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
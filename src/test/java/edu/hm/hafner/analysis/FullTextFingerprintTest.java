@@ -1,12 +1,15 @@
 package edu.hm.hafner.analysis;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.util.ResourceTest;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -109,6 +112,37 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    @ParameterizedTest(name = "[{index}] Lines look ahead: {0}")
+    @ValueSource(ints = {0, 1, 3, 10})
+    void shouldExtractSameContextsInSinglePass(final int linesLookAhead) {
+        var affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        var fingerprint = new FullTextFingerprint(linesLookAhead);
+
+        List<Integer> lines = List.of(34, 7, -1, 0, 1, 2, 33, 20, 5, 10, 100, 31);
+        var contexts = fingerprint.extractContexts(lines, asIterator(affectedFile));
+
+        assertThat(contexts).hasSize(lines.size());
+        for (int line : lines) {
+            assertThat(contexts.get(line)).as("Context of line %d", line)
+                    .isEqualTo(fingerprint.extractContext(line, asIterator(affectedFile)));
+        }
+    }
+
+    @Test
+    void shouldCreateSameFingerprintsInSinglePass() {
+        var affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        var code = new FullTextFingerprint();
+
+        var fingerprints = code.createFingerprints(List.of(10, 20, 30), getTextLinesAsStream(affectedFile),
+                StandardCharsets.UTF_8);
+        assertThat(fingerprints).containsEntry(10, "C10CFE4EC75F0C7F54980D432624D1C9")
+                .containsEntry(20, "C10CFE4EC75F0C7F54980D432624D1C9")
+                .containsEntry(30, code.createFingerprint(30, getTextLinesAsStream(affectedFile),
+                        StandardCharsets.UTF_8));
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         var fingerprint = new FullTextFingerprint();
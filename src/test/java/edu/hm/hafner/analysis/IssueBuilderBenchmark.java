@@ -0,0 +1,54 @@
+package edu.hm.hafner.analysis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.IssueBuilder.IdStrategy;
+
+/**
+ * Performance benchmarks for the creation of issues with the different {@link IdStrategy ID strategies} of the
+ * {@link IssueBuilder}. The benchmarks run on several threads to show the contention of the shared random number
+ * generator.
+ */
+public class IssueBuilderBenchmark extends AbstractBenchmark {
+    private static final int ISSUE_COUNT = 10_000;
+
+    /**
+     * Benchmarks the creation of issues that use the ID strategy of the state.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the ID strategy
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    @Threads(4)
+    public void benchmarkIssueCreation(final BenchmarkState state, final Blackhole blackhole) {
+        try (var builder = new IssueBuilder().setIdStrategy(state.getStrategy())) {
+            builder.setCategory("Naming").setType("MethodNameCheck").setSeverity(Severity.WARNING_NORMAL);
+            for (int i = 0; i < ISSUE_COUNT; i++) {
+                blackhole.consume(builder.setFileName("File" + i % 100 + ".java")
+                        .setLineStart(i)
+                        .setMessage("Message")
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * State for the benchmark containing the ID strategy to use.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"SECURE_RANDOM", "FAST_RANDOM", "TIME_ORDERED"})
+        private IdStrategy strategy;
+
+        public IdStrategy getStrategy() {
+            return strategy;
+        }
+    }
+}
@@ -4,16 +4,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 
+import edu.hm.hafner.analysis.IssueBuilder.IdStrategy;
 import edu.hm.hafner.util.LineRange;
 import edu.hm.hafner.util.LineRangeList;
 import edu.hm.hafner.util.TreeString;
 import edu.hm.hafner.util.TreeStringBuilder;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -329,6 +332,52 @@ class IssueBuilderTest {
         }
     }
 
+    @ParameterizedTest(name = "[{index}] Strategy {0}")
+    @EnumSource(IdStrategy.class)
+    void shouldCreateUniqueIdsWithStrategy(final IdStrategy strategy) {
+        try (var builder = new IssueBuilder()) {
+            builder.setIdStrategy(strategy);
+
+            var ids = new HashSet<UUID>();
+            for (int i = 0; i < 1000; i++) {
+                ids.add(builder.build().getId());
+                ids.add(builder.buildAndClean().getId());
+            }
+            assertThat(ids).hasSize(2000).allSatisfy(id -> assertThat(id.variant()).isEqualTo(2));
+
+            var id = UUID.randomUUID();
+            assertThat(builder.setId(id).build()).hasId(id);
+            assertThat(builder.build().getId()).isNotEqualTo(id);
+        }
+    }
+
+    @Test
+    void shouldCreateTimeOrderedIds() {
+        try (var builder = new IssueBuilder().setIdStrategy(IdStrategy.TIME_ORDERED)) {
+            long before = System.currentTimeMillis();
+            var first = builder.build().getId();
+            var second = builder.build().getId();
+            long after = System.currentTimeMillis();
+
+            assertThat(first.version()).isEqualTo(7);
+            assertThat(first.getMostSignificantBits() >>> 16).isBetween(before, after);
+            assertThat(second.getMostSignificantBits() >>> 16).isBetween(first.getMostSignificantBits() >>> 16, after);
+            assertThat(builder.setIdStrategy(IdStrategy.FAST_RANDOM).build().getId().version()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldCreateIncreasingTimeOrderedIdsWithinSameMillisecond() {
+        try (var builder = new IssueBuilder().setIdStrategy(IdStrategy.TIME_ORDERED)) {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(builder.build().getId());
+            }
+
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
     @Test
     void testFileNameBackslashConversion() {
         try (var builder = new IssueBuilder()) {
@@ -7,6 +7,9 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Performance benchmarks for the class {@link IssueDifference}.
  *
@@ -29,6 +32,21 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
         blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference()));
     }
 
+    /**
+     * Benchmarking for the creation of a {@link IssueDifference} that classifies the new issues in the changed code of
+     * a large pull request.
+     *
+     * @param state
+     *         a {@link ChangedCodeState} object containing the predefined objects for the test
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkDeltaReportCreationWithChangedCode(final ChangedCodeState state, final Blackhole blackhole) {
+        blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference(),
+                state.getIncludes()));
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
@@ -87,4 +105,60 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
             }
         }
     }
+
+    /**
+     * State for the benchmark with a large number of new issues and a large number of changed files.
+     */
+    @State(Scope.Benchmark)
+    public static class ChangedCodeState {
+        private static final int FILES = 4000;
+        private static final int ISSUES_PER_FILE = 5;
+        private static final int CHANGED_FILES = 3000;
+
+        private Report reference = new Report();
+        private Report current = new Report();
+        private final Map<String, Integer> includes = new HashMap<>();
+
+        public Report getReference() {
+            return reference;
+        }
+
+        public Report getCurrent() {
+            return current;
+        }
+
+        public Map<String, Integer> getIncludes() {
+            return includes;
+        }
+
+        /**
+         * Initializes reports and changed lines for the benchmarks.
+         */
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            reference = new Report();
+            current = new Report();
+            includes.clear();
+
+            try (var builder = new IssueBuilder()) {
+                for (int file = 0; file < FILES; file++) {
+                    var fileName = "src/main/java/edu/hm/hafner/module" + file % 40 + "/File" + file + ".java";
+                    for (int issue = 0; issue < ISSUES_PER_FILE; issue++) {
+                        builder.setFileName(fileName)
+                                .setLineStart(issue * 20 + 1)
+                                .setLineEnd(issue * 20 + 3)
+                                .setMessage("Warning " + issue)
+                                .setFingerprint(fileName + issue);
+                        current.add(builder.build());
+                        if (issue % 2 == 0) {
+                            reference.add(builder.build());
+                        }
+                    }
+                    if (file < CHANGED_FILES) {
+                        includes.put("module" + file % 40 + "/File" + file + ".java", file % 100 + 1);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -6,6 +6,7 @@ import edu.hm.hafner.analysis.registry.ParserRegistry;
 import edu.hm.hafner.util.ResourceTest;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 
@@ -234,6 +235,26 @@ class IssueDifferenceTest extends ResourceTest {
         assertThat(fixed.get(1)).hasLineStart(30);
     }
 
+    @Test
+    void shouldRemoveNewIssuesInChangedCode() {
+        var referenceIssues = new Report().addAll(createIssueAtLine("OUTSTANDING", "OUT", 10));
+
+        var currentIssues = new Report().addAll(
+                createIssueAtLine("OUTSTANDING", "OUT", 10),
+                createIssueAtLine("NEW IN CHANGED LINE", "NEW 1", 10),
+                createIssueAtLine("NEW IN OTHER LINE", "NEW 2", 20),
+                createIssue("NEW IN CHANGED FILE", "NEW 3", "path/to/other-file"),
+                createIssue("NEW IN OTHER FILE", "NEW 4", "path/to/unchanged-file"));
+
+        var issueDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues,
+                Map.of("file-name", 10, "other-file", 2, "unknown-file", 1));
+
+        assertThat(issueDifference.getOutstandingIssues()).hasSize(1);
+        assertThat(issueDifference.getNewIssues()).hasSize(2);
+        assertThat(issueDifference.getNewIssues().get(0)).hasMessage("NEW IN OTHER LINE");
+        assertThat(issueDifference.getNewIssues().get(1)).hasMessage("NEW IN OTHER FILE");
+    }
+
     private Issue createIssueAtLine(final String message, final String fingerprint, final int line) {
         try (var builder = new IssueBuilder()) {
             builder.setFileName("file-name")
@@ -0,0 +1,108 @@
+package edu.hm.hafner.analysis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.Report.IssueFilterBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Performance benchmarks for the class {@link IssueFilterBuilder}.
+ */
+public class IssueFilterBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the filtering of a large report with the compiled filter of the {@link IssueFilterBuilder}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the predefined objects for the test
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCompiledFilter(final BenchmarkState state, final Blackhole blackhole) {
+        var builder = new IssueFilterBuilder()
+                .setExcludeFileNameFilter(state.getFilePatterns())
+                .setExcludeMessageFilter(state.getMessagePatterns());
+
+        blackhole.consume(state.getReport().filter(builder.build()));
+    }
+
+    /**
+     * Benchmarks the filtering of a large report with a filter that compiles the patterns for each issue. This has
+     * been the behavior of the {@link IssueFilterBuilder} before the patterns have been precompiled.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the predefined objects for the test
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkUncompiledFilter(final BenchmarkState state, final Blackhole blackhole) {
+        Predicate<Issue> filter = issue -> true;
+        for (String pattern : state.getFilePatterns()) {
+            filter = filter.and(issue -> !Pattern.compile(pattern, Pattern.DOTALL)
+                    .matcher(issue.getFileName()).find());
+        }
+        for (String pattern : state.getMessagePatterns()) {
+            filter = filter.and(issue -> !Pattern.compile(pattern, Pattern.DOTALL)
+                    .matcher("%s%n%s".formatted(issue.getMessage(), issue.getDescription())).find());
+        }
+
+        blackhole.consume(state.getReport().filter(filter));
+    }
+
+    /**
+     * State for the benchmark containing all preconfigured and necessary objects.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int ISSUE_COUNT = 100_000;
+        private static final int PATTERN_COUNT = 15;
+
+        private Report report = new Report();
+        private final List<String> filePatterns = new ArrayList<>();
+        private final List<String> messagePatterns = new ArrayList<>();
+
+        public Report getReport() {
+            return report;
+        }
+
+        public List<String> getFilePatterns() {
+            return filePatterns;
+        }
+
+        public List<String> getMessagePatterns() {
+            return messagePatterns;
+        }
+
+        /**
+         * Initializes the report and the filter patterns for the benchmarks.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            report = new Report();
+            try (var builder = new IssueBuilder()) {
+                for (int i = 0; i < ISSUE_COUNT; i++) {
+                    report.add(builder.setFileName("src/main/java/module" + i % 100 + "/File" + i + ".java")
+                            .setLineStart(i)
+                            .setMessage("Warning number " + i + " in generated code " + i % 7)
+                            .setDescription("Description " + i % 13)
+                            .build());
+                }
+            }
+
+            for (int i = 0; i < PATTERN_COUNT; i++) {
+                filePatterns.add(".*/module" + (i * 3) + "/File1[0-9]+\\.java");
+                messagePatterns.add(".*generated code " + i + ".*");
+            }
+        }
+    }
+}
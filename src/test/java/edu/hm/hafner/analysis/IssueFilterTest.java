@@ -276,6 +276,15 @@ class IssueFilterTest {
         applyFilterAndCheckResult(filter, getIssues());
     }
 
+    @Test
+    void shouldCombinePatternsOfSamePropertyFromSeveralCalls() {
+        var filter = new IssueFilterBuilder()
+                .setExcludeFileNameFilter("File[N]ame1")
+                .setExcludeFileNameFilter(".*Name3.*", "(File)\\1")
+                .build();
+        applyFilterAndCheckResult(filter, getIssues(), ISSUE2);
+    }
+
     @Test
     void shouldFindIssue1ByAMessageIncludeMatch() {
         var filter = new IssueFilterBuilder()
@@ -0,0 +1,61 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link IssueLineIndex}.
+ */
+class IssueLineIndexTest {
+    @Test
+    void shouldFindIssuesBySuffixOfFileName() {
+        var first = createIssue("src/main/java/A.java", 1, 1);
+        var second = createIssue("other/src/main/java/A.java", 2, 2);
+        var third = createIssue("src/main/java/B.java", 3, 3);
+
+        var index = new IssueLineIndex(List.of(first, second, third));
+
+        assertThat(index.findByFileName("A.java")).containsExactly(first, second);
+        assertThat(index.findByFileName("other/src/main/java/A.java")).containsExactly(second);
+        assertThat(index.findByFileName(".java")).containsExactly(first, second, third);
+        assertThat(index.findByFileName("")).containsExactly(first, second, third);
+        assertThat(index.findByFileName("C.java")).isEmpty();
+    }
+
+    @Test
+    void shouldFindIssuesThatAffectLines() {
+        var single = createIssue("A.java", 5, 5);
+        var range = createIssue("A.java", 3, 10);
+        var wholeFile = createIssue("A.java", 0, 0);
+        var otherFile = createIssue("B.java", 5, 5);
+        try (var builder = new IssueBuilder()) {
+            var additionalRange = builder.addLocation("A.java", 20, 20, 0, 0)
+                    .addLocation("A.java", 40, 42, 0, 0)
+                    .build();
+
+            var index = new IssueLineIndex(List.of(single, range, wholeFile, otherFile, additionalRange));
+
+            assertThat(index.findByFileNameAndLine("A.java", 5)).containsExactly(single, range, wholeFile);
+            assertThat(index.findByFileNameAndLine("A.java", 3)).containsExactly(range, wholeFile);
+            assertThat(index.findByFileNameAndLine("A.java", 11)).containsExactly(wholeFile);
+            assertThat(index.findByFileNameAndLine("A.java", 41)).containsExactly(wholeFile, additionalRange);
+            assertThat(index.findByFileNameAndLine("A.java", 0))
+                    .containsExactly(single, range, wholeFile, additionalRange);
+            assertThat(index.findByFileNameAndLine(".java", 5)).containsExactly(single, range, wholeFile, otherFile);
+
+            assertThat(index.findByFileNameAndLines("A.java", Set.of(20, 4)))
+                    .containsExactly(range, wholeFile, additionalRange);
+            assertThat(index.findByFileNameAndLines("C.java", Set.of(5))).isEmpty();
+        }
+    }
+
+    private Issue createIssue(final String fileName, final int lineStart, final int lineEnd) {
+        try (var builder = new IssueBuilder()) {
+            return builder.setFileName(fileName).setLineStart(lineStart).setLineEnd(lineEnd).build();
+        }
+    }
+}
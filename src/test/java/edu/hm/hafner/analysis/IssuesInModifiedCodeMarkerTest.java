@@ -181,6 +181,35 @@ class IssuesInModifiedCodeMarkerTest {
         assertThatModifiedCodeMarkers(report).containsExactly(true, true, true, false);
     }
 
+    @Test
+    void shouldMarkIssuesInManyFilesAndLines() {
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            for (int file = 0; file < 100; file++) {
+                builder.setFileName("/workspace/module" + file % 10 + "/File" + file + ".java");
+                for (int line = 1; line < 100; line += 10) {
+                    report.add(builder.setLineStart(line).setLineEnd(line + 5).build());
+                }
+            }
+            report.add(builder.setFileName("/workspace/module3/File3.java").setLineStart(0).setLineEnd(0).build());
+        }
+
+        Map<String, Set<Integer>> modifiedLines = Map.of(
+                "module3/File3.java", Set.of(3, 95),
+                "module4\\File14.java", Set.of(16, 52),
+                "File21.java", Set.of(96),
+                "unknown/File5.java", Set.of(1));
+
+        var marker = new IssuesInModifiedCodeMarker();
+        marker.markIssuesInModifiedCode(report, modifiedLines);
+
+        assertThat(report.filter(Issue::isPartOfModifiedCode).get())
+                .extracting(Issue::toString)
+                .containsExactly("*File3.java(1,0): -: : ", "*File3.java(91,0): -: : ",
+                        "*File14.java(11,0): -: : ", "*File14.java(51,0): -: : ",
+                        "*File21.java(91,0): -: : ", "*File3.java(0,0): -: : ");
+    }
+
     private AbstractListAssert<?, List<? extends String>, String, ObjectAssert<String>> assertThatIssuesToString(
             final Report report) {
         return assertThat(report.get()).extracting(Issue::toString);
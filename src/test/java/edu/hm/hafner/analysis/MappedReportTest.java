@@ -0,0 +1,151 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link MappedReport}.
+ */
+class MappedReportTest {
+    @Test
+    void shouldProvideSummaryAndIssuesOfReport(@TempDir final Path workspace) throws IOException {
+        var report = createReport();
+        var file = workspace.resolve("report.bin");
+
+        MappedReport.write(report, file);
+        try (var mapped = MappedReport.open(file)) {
+            assertThatSummaryAndIssuesAreEqual(mapped, report);
+        }
+    }
+
+    private void assertThatSummaryAndIssuesAreEqual(final MappedReport mapped, final Report report) {
+        assertThat(mapped.getId()).isEqualTo(report.getId());
+        assertThat(mapped.getName()).isEqualTo(report.getName());
+        assertThat(mapped.getEffectiveId()).isEqualTo(report.getEffectiveId());
+        assertThat(mapped.getEffectiveName()).isEqualTo(report.getEffectiveName());
+        assertThat(mapped.getParserId()).isEqualTo(report.getParserId());
+        assertThat(mapped.getElementType()).isEqualTo(report.getElementType());
+        assertThat(mapped.size()).isEqualTo(report.size()).isEqualTo(4);
+        assertThat(mapped.isEmpty()).isFalse();
+        assertThat(mapped.getDuplicatesSize()).isEqualTo(report.getDuplicatesSize()).isEqualTo(1);
+        assertThat(mapped.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(2);
+        assertThat(mapped.getSizeOf(Severity.ERROR)).isEqualTo(1);
+        assertThat(mapped.getSizeOf(Severity.WARNING_LOW)).isZero();
+        assertThat(mapped.getCounter("files")).isEqualTo(report.getCounter("files")).isEqualTo(15);
+        assertThat(mapped.getCounter("negative")).isEqualTo(-3);
+        assertThat(mapped.hasCounter("files")).isTrue();
+        assertThat(mapped.hasCounter("unknown")).isFalse();
+        assertThat(mapped.getModules()).isEqualTo(report.getModules());
+        assertThat(mapped.getInfoMessages()).isEqualTo(report.getInfoMessages());
+        assertThat(mapped.getErrorMessages()).isEqualTo(report.getErrorMessages());
+
+        assertThat(mapped.stream().toList()).containsExactlyElementsOf(report.get());
+        for (int i = 0; i < report.size(); i++) {
+            var expected = report.get(i);
+            assertThat(mapped.get(i)).isEqualTo(expected).hasId(expected.getId())
+                    .hasReference(expected.getReference());
+            assertThat(mapped.findById(expected.getId())).isEqualTo(expected);
+        }
+        assertThat(mapped.get(3).getAdditionalProperties()).isEqualTo("properties");
+        assertThat(mapped.get(3).getLocations()).isEqualTo(report.get(3).getLocations());
+
+        var restored = mapped.toReport();
+        assertThat(restored).hasId(report.getId()).hasName(report.getName());
+        assertThat(restored.get()).containsExactlyElementsOf(report.get());
+        assertThat(restored.getCounter("files")).isEqualTo(15);
+    }
+
+    @Test
+    void shouldReportMissingIssues(@TempDir final Path workspace) throws IOException {
+        var file = workspace.resolve("empty.bin");
+
+        MappedReport.write(new Report(), file);
+        try (var mapped = MappedReport.open(file)) {
+            assertThat(mapped.isEmpty()).isTrue();
+            assertThat(mapped.iterator()).isExhausted();
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> mapped.get(0));
+            var id = UUID.randomUUID();
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> mapped.findById(id))
+                    .withMessageContaining(id.toString());
+        }
+    }
+
+    @Test
+    void shouldProvideSummaryButNoIssuesAfterClose(@TempDir final Path workspace) throws IOException {
+        var report = createReport();
+        var file = workspace.resolve("report.bin");
+
+        MappedReport.write(report, file);
+        var mapped = MappedReport.open(file);
+        var id = report.get(0).getId();
+        assertThat(mapped.findById(id)).isEqualTo(report.get(0));
+
+        mapped.close();
+        mapped.close();
+
+        assertThat(mapped.size()).isEqualTo(4);
+        assertThat(mapped.getErrorMessages()).isEqualTo(report.getErrorMessages());
+        assertThatIllegalStateException().isThrownBy(() -> mapped.get(0))
+                .withMessageContaining("has been closed");
+        assertThatIllegalStateException().isThrownBy(() -> mapped.findById(id))
+                .withMessageContaining("has been closed");
+
+        Files.delete(file);
+    }
+
+    @Test
+    void shouldRejectOtherFiles(@TempDir final Path workspace) throws IOException {
+        var file = workspace.resolve("other.txt");
+        Files.write(file, List.of("This is not a report, this is just a text file."));
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedReport.open(file))
+                .withMessageContaining("does not contain a report");
+    }
+
+    private Report createReport() {
+        try (var builder = new IssueBuilder()) {
+            var checkStyle = new Report("checkstyle", "CheckStyle", "checkstyle.xml");
+            checkStyle.add(builder.setFileName("src/A.java")
+                    .setLineStart(10)
+                    .setLineEnd(12)
+                    .setCategory("Style")
+                    .setModuleName("core")
+                    .setSeverity(Severity.WARNING_HIGH)
+                    .setMessage("message")
+                    .setReference("1")
+                    .buildAndClean());
+            checkStyle.add(builder.setFileName("src/B.java")
+                    .setModuleName("ui")
+                    .setSeverity(Severity.WARNING_HIGH)
+                    .setReference("1")
+                    .build());
+            checkStyle.add(builder.build()); // duplicate
+            checkStyle.setCounter("files", 10);
+            checkStyle.setCounter("negative", -3);
+            checkStyle.logInfo("Info from CheckStyle");
+            checkStyle.logError("Error from CheckStyle");
+
+            var spotBugs = new Report("spotbugs", "SpotBugs", "spotbugs.xml", Report.IssueType.BUG);
+            spotBugs.add(builder.setFileName("src/C.java").setSeverity(Severity.ERROR).buildAndClean());
+            spotBugs.add(builder.addLocation("src/A.java", 1, 2, 3, 4)
+                    .addLocation("src/D.java", 100, 120, 0, 0)
+                    .setAdditionalProperties("properties")
+                    .buildAndClean());
+            spotBugs.setCounter("files", 5);
+            spotBugs.logInfo("Info from SpotBugs");
+
+            var aggregation = new Report();
+            aggregation.addAll(checkStyle, spotBugs);
+            return aggregation;
+        }
+    }
+}
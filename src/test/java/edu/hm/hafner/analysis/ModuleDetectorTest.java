@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
 import edu.hm.hafner.util.PathUtil;
@@ -55,6 +56,58 @@ class ModuleDetectorTest extends ResourceTest {
                 .isEqualTo(EXPECTED_MAVEN_MODULE);
     }
 
+    @Test
+    void shouldIdentifyInnermostModule() {
+        var factory = createFileSystemStub(stub -> {
+            var ant = "path/to/" + AntModuleDetector.ANT_PROJECT;
+            var maven = PATH_PREFIX_MAVEN + MavenModuleDetector.MAVEN_POM;
+            when(stub.find(any(), anyString())).thenReturn(List.of(ant, maven));
+            when(stub.open(PREFIX + ant)).thenAnswer(fileName -> read(AntModuleDetector.ANT_PROJECT));
+            when(stub.open(PREFIX + maven)).thenAnswer(filename -> read(MavenModuleDetector.MAVEN_POM));
+        });
+
+        var detector = new ModuleDetectorRunner(ROOT, factory);
+
+        var mavenFile = PREFIX + PATH_PREFIX_MAVEN + "src/main/java/Something.java";
+        assertThat(detector.guessModuleName(mavenFile)).isEqualTo(EXPECTED_MAVEN_MODULE);
+        assertThat(detector.guessModuleName(mavenFile)).isEqualTo(EXPECTED_MAVEN_MODULE);
+        assertThat(detector.guessModuleName(mavenFile.replace('/', '\\'))).isEqualTo(EXPECTED_MAVEN_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/to/maven-other/something.txt"))
+                .isEqualTo(EXPECTED_ANT_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/to/something.txt")).isEqualTo(EXPECTED_ANT_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/something.txt")).isEmpty();
+        assertThat(detector.guessModuleName("/somewhere/else/something.txt")).isEmpty();
+    }
+
+    @Test
+    void shouldSkipUnchangedProjectFilesOfCache(@TempDir final Path cacheFolder) throws IOException {
+        var maven = PATH_PREFIX_MAVEN + MavenModuleDetector.MAVEN_POM;
+        var fileSystem = createFileSystemStub(stub -> {
+            when(stub.find(any(), anyString())).thenReturn(List.of(maven));
+            when(stub.open(PREFIX + maven)).thenAnswer(filename -> read(MavenModuleDetector.MAVEN_POM));
+            when(stub.getLastModified(PREFIX + maven)).thenReturn(42L);
+        });
+        var cacheFile = cacheFolder.resolve("modules.properties");
+        var fileName = PREFIX + PATH_PREFIX_MAVEN + "something.txt";
+
+        var cache = ModuleNameCache.read(cacheFile);
+        assertThat(new ModuleDetectorRunner(ROOT, fileSystem, cache).guessModuleName(fileName))
+                .isEqualTo(EXPECTED_MAVEN_MODULE);
+        assertThat(cache.size()).isOne();
+        cache.write(cacheFile);
+
+        var restored = ModuleNameCache.read(cacheFile);
+        assertThat(new ModuleDetectorRunner(ROOT, fileSystem, restored).guessModuleName(fileName))
+                .isEqualTo(EXPECTED_MAVEN_MODULE);
+        verify(fileSystem, times(2)).open(PREFIX + maven); // name and artifact ID are read by the first runner only
+        verify(fileSystem, times(2)).find(any(), anyString()); // one scan for each runner
+
+        when(fileSystem.getLastModified(PREFIX + maven)).thenReturn(43L);
+        assertThat(new ModuleDetectorRunner(ROOT, fileSystem, restored).guessModuleName(fileName))
+                .isEqualTo(EXPECTED_MAVEN_MODULE);
+        verify(fileSystem, times(4)).open(PREFIX + maven);
+    }
+
     @Test
     void shouldEnsureThatMavenHasPrecedenceOverAnt() {
         var prefix = "/prefix/";
@@ -0,0 +1,158 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.SerializableTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportCodec}.
+ */
+class ReportCodecTest extends SerializableTest<Report> {
+    private static final int ISSUES = 1000;
+
+    @Test
+    void shouldRoundTripReportWithSubReports() {
+        var report = createSerializable();
+
+        var codec = new ReportCodec();
+        var restored = codec.fromBytes(codec.toBytes(report));
+
+        assertThat(restored).isEqualTo(report);
+        assertThat(restored.getSubReports()).hasSize(3);
+        assertThat(restored.get()).extracting(Issue::getId)
+                .containsExactlyElementsOf(report.get().stream().map(Issue::getId).toList());
+        assertThat(restored.get()).extracting(Issue::getReference)
+                .containsExactlyElementsOf(report.get().stream().map(Issue::getReference).toList());
+        assertThat(restored.get()).extracting(Issue::getPath)
+                .containsExactlyElementsOf(report.get().stream().map(Issue::getPath).toList());
+    }
+
+    @Test
+    void shouldRoundTripSpecialCharactersAndLongStrings() {
+        var chars = new char[100_000];
+        Arrays.fill(chars, 'ä');
+        chars[42] = '\uD83D'; // unpaired surrogate
+        chars[43] = 'x';
+        chars[100] = '\uD83D'; // valid surrogate pair
+        chars[101] = '\uDE00';
+        var message = String.valueOf(chars);
+
+        try (var builder = new IssueBuilder()) {
+            var report = new Report().add(builder.setMessage(message)
+                    .setDescription("\0\uFFFF äöü \uD83D\uDE00")
+                    .build());
+
+            var codec = new ReportCodec();
+            var restored = codec.fromBytes(codec.toBytes(report));
+
+            assertThat(restored).isEqualTo(report);
+            assertThat(restored.get(0).getMessage()).isEqualTo(message);
+            assertThat(restored.get(0).getDescription()).isEqualTo(report.get(0).getDescription());
+        }
+    }
+
+    @Test
+    void shouldBeSmallerThanJavaSerialization() {
+        var report = createReportWithManyIssues();
+
+        var binary = new ReportCodec().toBytes(report);
+
+        assertThat(binary.length).isLessThan(toByteArray(report).length / 2);
+        assertThat(new ReportCodec().fromBytes(binary)).isEqualTo(report);
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        var codec = new ReportCodec();
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> codec.read(new ByteArrayInputStream(toByteArray(createSerializable()))))
+                .withMessageContaining("does not contain a binary report");
+
+        var bytes = codec.toBytes(new Report());
+        bytes[4] = 2; // version
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> codec.fromBytes(bytes))
+                .withMessageContaining("Can't read report")
+                .withRootCauseInstanceOf(IOException.class);
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> codec.fromBytes(Arrays.copyOf(codec.toBytes(createSerializable()), 100)));
+    }
+
+    private Report createReportWithManyIssues() {
+        var report = new Report("checkstyle", "CheckStyle", "checkstyle-result.xml");
+        try (var builder = new IssueBuilder()) {
+            builder.setOrigin("checkstyle")
+                    .setOriginName("CheckStyle")
+                    .setCategory("Naming")
+                    .setType("MethodNameCheck")
+                    .setModuleName("analysis-model")
+                    .setSeverity(Severity.WARNING_NORMAL)
+                    .setReference("42");
+            for (int i = 0; i < ISSUES; i++) {
+                report.add(builder.setFileName("src/main/java/edu/hm/hafner/analysis/File" + i % 50 + ".java")
+                        .setPackageName("edu.hm.hafner.analysis")
+                        .setLineStart(i)
+                        .setColumnStart(i % 80)
+                        .setMessage("Name 'method" + i % 10 + "' must match pattern '^[a-z][a-zA-Z0-9]*$'.")
+                        .setFingerprint(Integer.toHexString(i))
+                        .build());
+            }
+        }
+        return report;
+    }
+
+    @Override
+    protected Report createSerializable() {
+        try (var builder = new IssueBuilder()) {
+            var checkStyle = new Report("checkstyle", "CheckStyle", "checkstyle.xml");
+            checkStyle.add(builder.setFileName("A.java")
+                    .setPathName("/workspace")
+                    .setLineStart(10)
+                    .setLineEnd(12)
+                    .setColumnStart(3)
+                    .setColumnEnd(5)
+                    .setCategory("Style")
+                    .setType("Naming")
+                    .setPackageName("edu.hm.hafner")
+                    .setModuleName("module")
+                    .setSeverity(Severity.WARNING_HIGH)
+                    .setMessage("message")
+                    .setDescription("description")
+                    .setReference("1")
+                    .setFingerprint("fingerprint")
+                    .setAdditionalProperties("additional")
+                    .buildAndClean());
+            checkStyle.add(builder.setFileName("A.java").setLineStart(10).buildAndClean());
+            checkStyle.add(builder.setFileName("A.java").setLineStart(10).buildAndClean()); // duplicate
+            checkStyle.setCounter("counter", -1);
+            checkStyle.logInfo("Info from CheckStyle");
+            checkStyle.logError("Error from CheckStyle");
+
+            var spotBugs = new Report("spotbugs", "SpotBugs", "spotbugs.xml", Report.IssueType.BUG);
+            spotBugs.add(builder.addLocation("B.java", 1, 2, 3, 4)
+                    .addLocation("B.java", 100, 120, 0, 0)
+                    .addLocation("C.java", 5, 5, 0, 0)
+                    .setSeverity(Severity.ERROR)
+                    .buildAndClean());
+            spotBugs.setIcon("spotbugs.svg");
+
+            var aggregation = new Report();
+            aggregation.addAll(checkStyle, spotBugs);
+            aggregation.addAll(new Report().add(builder.setFileName("A.java").setLineStart(10).buildAndClean()));
+            return aggregation;
+        }
+    }
+
+    @Override
+    protected void assertThatRestoredInstanceEqualsOriginalInstance(final Report original, final Report restored) {
+        assertThat(restored).isEqualTo(original);
+    }
+}
@@ -13,7 +13,8 @@ import org.openjdk.jmh.infra.Blackhole;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
- * JMH Benchmarking the serialization and deserialization of the class {@link Report}.
+ * JMH Benchmarking the serialization and deserialization of the class {@link Report}. Compares Java serialization with
+ * the binary format of {@link ReportCodec}. The sizes of both formats are verified in {@code ReportCodecTest}.
  *
  * @author Patrick Rogg
  */
@@ -22,6 +23,8 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
     private static final int ISSUE_COUNT = 1000;
     private static final Report REPORT = createReportWith(ISSUE_COUNT);
     private static final byte[] REPORT_AS_BYTES = toByteArray(REPORT);
+    private static final ReportCodec CODEC = new ReportCodec();
+    private static final byte[] REPORT_AS_BINARY = CODEC.toBytes(REPORT);
 
     /**
      * Benchmarking the serialization of {@link Report}.
@@ -45,6 +48,29 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
         blackhole.consume(toReport(REPORT_AS_BYTES));
     }
 
+    /**
+     * Benchmarking the serialization of {@link Report} using the binary format of {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the written bytes
+     */
+    @Benchmark
+    public void benchmarkingReportCodecSerialization(final Blackhole blackhole) {
+        blackhole.consume(CODEC.toBytes(REPORT));
+    }
+
+    /**
+     * Benchmarking the deserialization of a byte array to a {@link Report} using the binary format of
+     * {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the created report
+     */
+    @Benchmark
+    public void benchmarkingReportCodecDeserialization(final Blackhole blackhole) {
+        blackhole.consume(CODEC.fromBytes(REPORT_AS_BINARY));
+    }
+
     private static Report createReportWith(final int number) {
         try (var builder = new IssueBuilder()) {
             var report = new Report();
@@ -0,0 +1,115 @@
+package edu.hm.hafner.analysis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Performance benchmarks for the aggregated properties of a {@link Report} (see {@link ReportStatistics}). The
+ * benchmark simulates the rendering of a summary page of a large report that contains the results of several tools.
+ */
+public class ReportStatisticsBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the queries that are required to render the summary of a report.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSummary(final BenchmarkState state, final Blackhole blackhole) {
+        var report = state.getReport();
+
+        blackhole.consume(report.toString());
+        for (Severity severity : Severity.getPredefinedValues()) {
+            blackhole.consume(report.getSizeOf(severity));
+        }
+        blackhole.consume(report.hasModules());
+        blackhole.consume(report.hasPackages());
+        blackhole.consume(report.hasFiles());
+        blackhole.consume(report.hasCategories());
+        blackhole.consume(report.hasTypes());
+        blackhole.consume(report.hasTools());
+        blackhole.consume(report.getModules());
+        blackhole.consume(report.getCategories());
+    }
+
+    /**
+     * Benchmarks the queries that are required to render the summary of a report after an issue has been added and
+     * removed again.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSummaryAfterModification(final BenchmarkState state, final Blackhole blackhole) {
+        var report = state.getReport();
+        var additional = state.getAdditionalIssue();
+
+        report.add(additional);
+        blackhole.consume(report.getSizeOf(Severity.WARNING_HIGH));
+        report.remove(additional.getId());
+
+        benchmarkSummary(state, blackhole);
+    }
+
+    /**
+     * State for the benchmark containing the report.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int ISSUE_COUNT = 500_000;
+        private static final List<String> TOOLS = List.of("checkstyle", "pmd", "spotbugs", "cpd", "javac");
+
+        private Report report = new Report();
+        private final Issue additionalIssue = createAdditionalIssue();
+
+        public Report getReport() {
+            return report;
+        }
+
+        public Issue getAdditionalIssue() {
+            return additionalIssue;
+        }
+
+        /**
+         * Creates a report with the results of several tools.
+         */
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            report = new Report();
+            var severities = Severity.getPredefinedValues().toArray(new Severity[0]);
+            try (var builder = new IssueBuilder()) {
+                for (String tool : TOOLS) {
+                    var toolReport = new Report(tool, tool);
+                    for (int i = 0; i < ISSUE_COUNT / TOOLS.size(); i++) {
+                        toolReport.add(builder.setFileName("module-" + i % 20 + "/src/File" + i % 2000 + ".java")
+                                .setModuleName("module-" + i % 20)
+                                .setPackageName("edu.hm.hafner.package" + i % 200)
+                                .setCategory("Category" + i % 30)
+                                .setType("Type" + i % 300)
+                                .setSeverity(severities[i % severities.length])
+                                .setLineStart(i)
+                                .setMessage("Message " + i % 100)
+                                .buildAndClean());
+                    }
+                    report.addAll(toolReport);
+                }
+            }
+        }
+
+        private static Issue createAdditionalIssue() {
+            try (var builder = new IssueBuilder()) {
+                return builder.setFileName("Additional.java").setSeverity(Severity.WARNING_HIGH).build();
+            }
+        }
+    }
+}
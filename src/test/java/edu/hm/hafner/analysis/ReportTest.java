@@ -583,6 +583,132 @@ class ReportTest extends SerializableTest<Report> {
         assertThat((Iterable<Issue>) report).containsExactly(NORMAL_1, NORMAL_2);
     }
 
+    @Test
+    void shouldFindAndRemoveIssuesOfSubReportsById() {
+        var aggregated = new Report();
+        aggregated.addAll(new Report().addAll(HIGH, NORMAL_1), new Report().addAll(NORMAL_2, LOW_2_A));
+
+        assertThat(aggregated.findById(NORMAL_2.getId())).isSameAs(NORMAL_2);
+        assertThat(aggregated.remove(NORMAL_2.getId())).isSameAs(NORMAL_2);
+        assertThat((Iterable<Issue>) aggregated).containsExactly(HIGH, NORMAL_1, LOW_2_A);
+
+        var id = NORMAL_2.getId();
+        assertThatThrownBy(() -> aggregated.findById(id))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining(id.toString());
+
+        aggregated.add(NORMAL_2);
+        assertThat(aggregated.findById(id)).isSameAs(NORMAL_2);
+        assertThat((Iterable<Issue>) aggregated).containsExactly(NORMAL_2, HIGH, NORMAL_1, LOW_2_A);
+    }
+
+    @Test
+    void shouldFindIssuesOfModifiedSharedSubReportsById() {
+        var shared = new Report().add(HIGH);
+        var aggregated = new Report(shared, new Report().add(NORMAL_1));
+        assertThat(aggregated.findById(HIGH.getId())).isSameAs(HIGH);
+
+        shared.add(NORMAL_2);
+        assertThat(aggregated.findById(NORMAL_2.getId())).isSameAs(NORMAL_2);
+
+        assertThat(shared.remove(HIGH.getId())).isSameAs(HIGH);
+        var id = HIGH.getId();
+        assertThatThrownBy(() -> aggregated.findById(id))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining(id.toString());
+        assertThat((Iterable<Issue>) aggregated).containsExactly(NORMAL_2, NORMAL_1);
+    }
+
+    @Test
+    void shouldRemoveIssueWithChangedHashCode() {
+        try (var builder = new IssueBuilder()) {
+            var issue = builder.setMessage("message").build();
+            var report = new Report().add(issue);
+            assertThat(report.findById(issue.getId())).isSameAs(issue);
+
+            issue.setOrigin("changed", "Changed");
+
+            assertThat(report.remove(issue.getId())).isSameAs(issue);
+            assertThat(report).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldMaintainStatisticsOfSubReports() {
+        try (var builder = new IssueBuilder()) {
+            var first = builder.setFileName("A.java").setModuleName("core").setCategory("Style")
+                    .setSeverity(Severity.WARNING_HIGH).buildAndClean();
+            var second = builder.setFileName("B.java").setModuleName("ui").setCategory("Bug")
+                    .setSeverity(Severity.WARNING_LOW).buildAndClean();
+            var third = builder.setFileName("A.java").setModuleName("core").setCategory("Bug")
+                    .setSeverity(Severity.WARNING_HIGH).buildAndClean();
+
+            var aggregated = new Report();
+            aggregated.addAll(new Report("checkstyle", "CheckStyle").add(first),
+                    new Report("spotbugs", "SpotBugs").add(second));
+            assertThat(aggregated.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+            assertThat(aggregated.getModules()).containsExactlyInAnyOrder("core", "ui");
+            assertThat(aggregated.getTools()).containsExactlyInAnyOrder("checkstyle", "spotbugs");
+
+            aggregated.add(third);
+            assertThat(aggregated.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(2);
+            assertThat(aggregated.getFiles()).containsExactlyInAnyOrder("A.java", "B.java");
+            assertThat(aggregated.getCategories()).containsExactlyInAnyOrder("Style", "Bug");
+
+            aggregated.remove(second.getId());
+            assertThat(aggregated.getSizeOf(Severity.WARNING_LOW)).isZero();
+            assertThat(aggregated.getSeverities()).containsExactly(Severity.WARNING_HIGH);
+            assertThat(aggregated.getModules()).containsExactly("core");
+            assertThat(aggregated.getTools()).containsExactlyInAnyOrder("checkstyle", "");
+
+            aggregated.remove(first.getId());
+            assertThat(aggregated.getCategories()).containsExactly("Bug");
+
+            third.setModuleName("changed");
+            assertThat(aggregated.getModules()).containsExactly("changed");
+
+            aggregated.setOrigin("aggregated", "Aggregated");
+            assertThat(aggregated.getTools()).containsExactly("aggregated");
+        }
+    }
+
+    @Test
+    void shouldMaintainStatisticsOfModifiedSharedSubReports() {
+        var shared = new Report().add(HIGH);
+        var aggregated = new Report(shared, new Report().add(LOW_2_A));
+        assertThat(aggregated.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+        assertThat(aggregated.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+
+        shared.add(NORMAL_1);
+        assertThat(aggregated.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(1);
+
+        shared.remove(HIGH.getId());
+        assertThat(aggregated.getSizeOf(Severity.WARNING_HIGH)).isZero();
+        assertThat(aggregated.getSeverities()).containsExactlyInAnyOrder(Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+    }
+
+    @Test
+    void shouldMaintainStatisticsOfIssuesModifiedByOtherReports() {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            report.add(builder.setFileName("A.java").setModuleName("core").setSeverity(Severity.WARNING_HIGH)
+                    .buildAndClean());
+            report.add(builder.setFileName("B.java").setModuleName("core").setSeverity(Severity.WARNING_LOW)
+                    .buildAndClean());
+            assertThat(report.getModules()).containsExactly("core");
+            assertThat(report.getTools()).containsExactly("");
+
+            var filtered = report.filter(issue -> issue.getSeverity().equals(Severity.WARNING_HIGH));
+            filtered.get(0).setModuleName("ui");
+            assertThat(report.getModules()).containsExactlyInAnyOrder("core", "ui");
+
+            var aggregated = new Report();
+            aggregated.addAll(report);
+            aggregated.setOrigin("aggregated", "Aggregated");
+            assertThat(report.getTools()).containsExactly("aggregated");
+        }
+    }
+
     @Test
     void shouldThrowExceptionWhenRemovingWithWrongKey() {
         var report = new Report();
@@ -979,6 +1105,62 @@ class ReportTest extends SerializableTest<Report> {
         });
     }
 
+    @Test
+    void shouldDetectDuplicatesInNestedSubReports() {
+        var first = new Report().addAll(HIGH, NORMAL_1);
+        var second = new Report().addAll(NORMAL_2, LOW_2_A);
+        assertThat(first.getIndexSize()).isZero();
+
+        var aggregated = new Report();
+        aggregated.addAll(first, second);
+        assertThat(aggregated).hasSize(4).hasDuplicatesSize(0);
+        assertThat(aggregated.getIndexSize()).isEqualTo(4);
+
+        var nested = new Report();
+        nested.addAll(aggregated, new Report().addAll(HIGH, LOW_2_B));
+        assertThat(nested).hasSize(5).hasDuplicatesSize(1);
+        assertThat(nested.getIndexSize()).isEqualTo(5);
+
+        nested.add(NORMAL_1);
+        assertThat(nested).hasSize(5).hasDuplicatesSize(2);
+
+        assertThat(nested.remove(LOW_2_B.getId())).isSameAs(LOW_2_B);
+        assertThat(nested.getIndexSize()).isEqualTo(4);
+
+        nested.add(LOW_2_B);
+        assertThat(nested).hasSize(5).hasDuplicatesSize(2);
+        assertThat(nested.getIndexSize()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDetectDuplicatesOfModifiedSharedSubReports() {
+        var shared = new Report().addAll(HIGH, NORMAL_1);
+        var aggregated = new Report(shared);
+        aggregated.addAll(new Report().add(NORMAL_2));
+        assertThat(aggregated).hasSize(3).hasDuplicatesSize(0);
+        assertThat(aggregated.getIndexSize()).isEqualTo(3);
+
+        shared.add(LOW_2_A);
+        aggregated.add(LOW_2_A);
+        assertThat(aggregated).hasSize(4).hasDuplicatesSize(1);
+        assertThat(aggregated.getIndexSize()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDetectDuplicatesAfterIssuesHaveBeenModified() {
+        try (var builder = new IssueBuilder()) {
+            var issue = builder.setMessage("message").build();
+            var aggregated = new Report();
+            aggregated.addAll(new Report().add(issue));
+
+            issue.setModuleName("module");
+            aggregated.markIssuesAsModified();
+
+            aggregated.add(issue);
+            assertThat(aggregated).hasSize(1).hasDuplicatesSize(1);
+        }
+    }
+
     @Test
     void shouldAddSubReports() {
         try (var builder = new IssueBuilder()) {
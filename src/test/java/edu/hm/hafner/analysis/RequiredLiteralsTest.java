@@ -0,0 +1,67 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link RequiredLiterals}.
+ */
+class RequiredLiteralsTest {
+    private static final List<String> LINES = List.of("", "warning", "file.c:12: warning: unused variable",
+            "[WARNING] /path/File.java:[12,3] deprecated", "[ERROR] failed", "Entering directory '/tmp'",
+            "error: something", "Error: something", "abab", "abbbc", "ac", "x.y", "x-y", "[a]b");
+
+    static Stream<Arguments> patterns() {
+        return Stream.of(
+                Arguments.of("^(?:.*\\[[^]]*\\])?\\s*(.*):(\\d+): warning: (.*)$", List.of(": warning: ")),
+                Arguments.of(".*Entering directory (?<dir>.*)", List.of("Entering directory ")),
+                Arguments.of("^\\[(WARNING|ERROR)\\] (.*)$", List.of("WARNING", "ERROR")),
+                Arguments.of("(?:[Ww]arning|[Ee]rror): (.*)", List.of("arning", "rror")),
+                Arguments.of("ab+c", List.of("ab")),
+                Arguments.of("abc?d", List.of("ab")),
+                Arguments.of("x\\.y", List.of("x.y")),
+                Arguments.of("(?:abc)+def", List.of("abc")),
+                Arguments.of("(?s)warning", List.of("warning")),
+                Arguments.of("(?=abc)abx", List.of("abx")));
+    }
+
+    @ParameterizedTest(name = "[{index}] Pattern \"{0}\"")
+    @MethodSource("patterns")
+    void shouldExtractRequiredLiterals(final String pattern, final List<String> expected) {
+        assertThat(RequiredLiterals.extract(pattern)).containsExactlyInAnyOrderElementsOf(expected);
+        assertThatLiteralsAreRequired(pattern);
+    }
+
+    @ParameterizedTest(name = "[{index}] Pattern \"{0}\"")
+    @ValueSource(strings = {"(?i)warning", "(?x)warn ing", "(?:warning)?", "warning|.*", "\\Qwarning\\E",
+            "(a)b\\1", "a", ".*", "[warning]+", "x{0,2}yz?", "(?:a|b|c|d|e|f|g|h|i)j", "\\x41\\x42"})
+    void shouldNotExtractLiterals(final String pattern) {
+        assertThat(RequiredLiterals.extract(pattern)).isEmpty();
+        assertThatLiteralsAreRequired(pattern);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"warning\\", "warning(?<name", "warning\\u00", "warning[ab", "warning{2", "warning(?",
+            "warning(?<", "warning(error"})
+    void shouldNotExtractLiteralsOfIncompleteExpressions(final String pattern) {
+        assertThat(RequiredLiterals.extract(pattern)).isEmpty();
+    }
+
+    private void assertThatLiteralsAreRequired(final String pattern) {
+        var literals = RequiredLiterals.extract(pattern);
+        var compiled = Pattern.compile(pattern);
+        for (String line : LINES) {
+            if (compiled.matcher(line).find() && !literals.isEmpty()) {
+                assertThat(literals).as("Line '%s'", line).anySatisfy(literal -> assertThat(line).contains(literal));
+            }
+        }
+    }
+}
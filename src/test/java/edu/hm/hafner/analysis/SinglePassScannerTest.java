@@ -0,0 +1,106 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.parser.EclipseParser;
+import edu.hm.hafner.analysis.parser.Gcc4Cc1Parser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.Gcc4LinkerParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.ResourceTest;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link SinglePassScanner}.
+ */
+class SinglePassScannerTest extends ResourceTest {
+    @ParameterizedTest(name = "{index} => file={0}")
+    @ValueSource(strings = {"gcc4.txt", "gcc4ld.txt", "gcc.txt", "javac.txt", "eclipse.txt", "msbuild.txt"})
+    void shouldCreateSameReportsAsIndividualParsers(final String fileName) {
+        var readerFactory = createReaderFactory(fileName);
+
+        var reports = new SinglePassScanner(createParsers()).scan(readerFactory);
+
+        var parsers = createParsers();
+        assertThat(reports).hasSize(parsers.size());
+        for (int i = 0; i < parsers.size(); i++) {
+            var expected = parsers.get(i).parse(readerFactory);
+            var actual = reports.get(i);
+
+            assertThat(actual.getOriginReportFiles()).isEqualTo(expected.getOriginReportFiles());
+            assertThat(actual.getErrorMessages()).isEqualTo(expected.getErrorMessages());
+            assertThat(actual.get()).extracting(Issue::toString)
+                    .containsExactlyElementsOf(expected.get().stream().map(Issue::toString).toList());
+            assertThat(actual.get()).extracting(Issue::getFileName)
+                    .containsExactlyElementsOf(expected.get().stream().map(Issue::getFileName).toList());
+        }
+    }
+
+    @Test
+    void shouldReadReportFileOnlyOnce() {
+        var readerFactory = new CountingReaderFactory(createReaderFactory("gcc4.txt"));
+
+        var reports = new SinglePassScanner(createParsers()).scan(readerFactory);
+
+        assertThat(readerFactory.getCount()).isOne();
+        assertThat(reports.get(0)).hasSize(new Gcc4CompilerParser().parse(readerFactory).size());
+    }
+
+    @Test
+    void shouldRejectEmptyListOfParsers() {
+        assertThatThrownBy(() -> new SinglePassScanner(List.of())).hasMessageContaining("No parsers given");
+    }
+
+    private List<LookaheadParser> createParsers() {
+        return List.of(new Gcc4CompilerParser(), new Gcc4LinkerParser(), new Gcc4Cc1Parser(),
+                new JavacParser(), new EclipseParser(), new MsBuildParser());
+    }
+
+    private ReaderFactory createReaderFactory(final String fileName) {
+        return new FileReaderFactory(getResourceAsFile("parser/" + fileName));
+    }
+
+    /**
+     * Counts the number of times the report file has been read.
+     */
+    private static class CountingReaderFactory extends ReaderFactory {
+        private final ReaderFactory delegate;
+        private int count;
+
+        CountingReaderFactory(final ReaderFactory delegate) {
+            super(delegate.getCharset());
+
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getFileName() {
+            return delegate.getFileName();
+        }
+
+        @Override
+        public Reader create() {
+            return delegate.create();
+        }
+
+        @Override
+        @SuppressWarnings("MustBeClosedChecker")
+        public Stream<String> readStream() {
+            count++;
+
+            return super.readStream();
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.AbstractBenchmark;
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.LookaheadParser;
+import edu.hm.hafner.analysis.ReaderFactory;
+
+/**
+ * Performance benchmarks for line based parsers that scan a large and noisy console log. Only a small fraction of the
+ * lines in the log contain warnings, so the benchmark shows how fast a parser skips uninteresting lines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, warmups = 3)
+public class ConsoleLogParserBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the parsing of a noisy console log.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the console log and the parser to use
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkParser(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(state.createParser().parse(state.getReaderFactory()));
+    }
+
+    /**
+     * State for the benchmark containing all preconfigured and necessary objects.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int NOISE_LINES_PER_WARNING_LINE = 50;
+        private static final int REPETITIONS = 200;
+        private static final Map<String, Supplier<LookaheadParser>> PARSERS = Map.of(
+                "gcc", Gcc4CompilerParser::new,
+                "javac", JavacParser::new,
+                "msbuild", MsBuildParser::new,
+                "eclipse", EclipseParser::new,
+                "clang", ClangParser::new,
+                "maven", MavenConsoleParser::new);
+        private static final Map<String, String> WARNINGS = Map.of(
+                "gcc", "gcc4.txt",
+                "javac", "javac.txt",
+                "msbuild", "msbuild.txt",
+                "eclipse", "eclipse.txt",
+                "clang", "apple-llvm-clang.txt",
+                "maven", "maven-console.txt");
+        private static final String[] NOISE = {
+                "[INFO] Downloading from central: https://repo.maven.apache.org/maven2/org/apache/commons/"
+                        + "commons-lang3/3.14.0/commons-lang3-3.14.0.pom",
+                "[INFO] Downloaded from central: https://repo.maven.apache.org/maven2/org/apache/commons/"
+                        + "commons-lang3/3.14.0/commons-lang3-3.14.0.pom (31 kB at 1.2 MB/s)",
+                "Progress (1): 12/31 kB",
+                "[INFO] --- maven-compiler-plugin:3.11.0:compile (default-compile) @ analysis-model ---",
+                "[INFO] Tests run: 12, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.123 s - in "
+                        + "edu.hm.hafner.analysis.ReportTest",
+                "make[2]: Nothing to be done for 'all'.",
+                "[ 42%] Building CXX object src/CMakeFiles/core.dir/util/string_utils.cpp.o",
+                "  Restored /home/jenkins/workspace/project/src/Project.csproj (in 123 ms).",
+                "Note: Some input files use unchecked or unsafe operations.",
+                "12:34:56  + ./gradlew --no-daemon --console=plain build",
+                ""};
+
+        @Param({"gcc", "javac", "msbuild", "eclipse", "clang", "maven"})
+        private String parser;
+
+        @SuppressWarnings("NullAway")
+        private Path consoleLog;
+        @SuppressWarnings("NullAway")
+        private ReaderFactory readerFactory;
+
+        public LookaheadParser createParser() {
+            return PARSERS.get(parser).get();
+        }
+
+        public ReaderFactory getReaderFactory() {
+            return readerFactory;
+        }
+
+        /**
+         * Creates the noisy console log for the benchmarks.
+         *
+         * @throws IOException
+         *         if the console log could not be written
+         * @throws URISyntaxException
+         *         if the warnings file could not be found
+         */
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException, URISyntaxException {
+            var warnings = Files.readAllLines(Path.of(Objects.requireNonNull(
+                    BenchmarkState.class.getResource(WARNINGS.get(parser))).toURI()), StandardCharsets.ISO_8859_1);
+
+            List<String> lines = new ArrayList<>();
+            for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+                for (int i = 0; i < NOISE_LINES_PER_WARNING_LINE * warnings.size(); i++) {
+                    lines.add(NOISE[(repetition + i) % NOISE.length]);
+                }
+                lines.addAll(warnings); // keep multi-line warnings intact
+            }
+            consoleLog = Files.createTempFile("console", ".log");
+            Files.write(consoleLog, lines, StandardCharsets.ISO_8859_1);
+            readerFactory = new FileReaderFactory(consoleLog, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * Removes the console log.
+         *
+         * @throws IOException
+         *         if the console log could not be deleted
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(consoleLog);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package edu.hm.hafner.analysis.parser;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Report.IssueType;
@@ -11,10 +15,15 @@ import edu.hm.hafner.analysis.assertions.SoftAssertions;
 import edu.hm.hafner.analysis.parser.FindBugsParser.PriorityProperty;
 import edu.hm.hafner.analysis.parser.FindBugsParser.XmlBugInstance;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
@@ -31,10 +40,7 @@ class FindBugsParserTest {
     private static final String FINDBUGS_NATIVE_XML = "findbugs-native.xml";
 
     private Report parseFile(final String fileName, final PriorityProperty priorityProperty) {
-        var readerFactory = mock(ReaderFactory.class);
-        when(readerFactory.create()).thenAnswer(
-                mock -> new InputStreamReader(read(fileName), StandardCharsets.UTF_8));
-        when(readerFactory.getFileName()).thenReturn(fileName);
+        var readerFactory = createReaderFactory(fileName);
         var parser = new FindBugsParser(priorityProperty);
         parser.setId("findbugs");
         parser.setName("FindBugs");
@@ -42,6 +48,14 @@ class FindBugsParserTest {
         return parser.parse(readerFactory);
     }
 
+    private ReaderFactory createReaderFactory(final String fileName) {
+        var readerFactory = mock(ReaderFactory.class, CALLS_REAL_METHODS);
+        when(readerFactory.create()).thenAnswer(
+                mock -> new InputStreamReader(read(fileName), StandardCharsets.UTF_8));
+        when(readerFactory.getFileName()).thenReturn(fileName);
+        return readerFactory;
+    }
+
     private InputStream read(final String fileName) {
         return FindBugsParserTest.class.getResourceAsStream("findbugs/" + fileName);
     }
@@ -218,6 +232,79 @@ class FindBugsParserTest {
         assertThat(report.get(0).getMessage()).contains("Redundant nullcheck of");
     }
 
+    /**
+     * Verifies that the single pass creates the same issues as the SpotBugs object model. Note that the file
+     * {@code findbugs-multclass.xml} is not part of this test: its first bug instance has been edited manually, so
+     * its instance hash and long message do not match the values that SpotBugs computes for the bug.
+     *
+     * @param fileName
+     *         the report file
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"spotbugsXml.xml", FINDBUGS_NATIVE_XML,
+            "findbugs-3rd-party-category.xml", "findbugs-nomessage.xml", "fbcontrib.xml"})
+    void shouldCreateSameIssuesInSinglePass(final String fileName) {
+        var parser = new FindBugsParser(RANK);
+        var sources = List.of("src/main/java");
+
+        try (var builder = new IssueBuilder()) {
+            var singlePass = parser.parse(createReaderFactory(fileName), sources, builder);
+            var bugCollection = parser.parseWithBugCollection(createReaderFactory(fileName), sources, builder);
+
+            assertThat(singlePass.stream().map(this::getProperties))
+                    .containsExactlyElementsOf(bugCollection.stream().map(this::getProperties).toList());
+        }
+    }
+
+    @Test
+    void shouldUseCategoryOfBugPatternIfCategoryIsMissing() {
+        var parser = new FindBugsParser(RANK);
+        var withoutCategories = mock(ReaderFactory.class, CALLS_REAL_METHODS);
+        when(withoutCategories.create()).thenAnswer(mock -> new StringReader(
+                readString("spotbugsXml.xml").replaceAll("(<BugInstance [^>]*) category=(['\"])[A-Z_]*\\2", "$1")));
+        when(withoutCategories.getFileName()).thenReturn("spotbugsXml.xml");
+
+        try (var builder = new IssueBuilder()) {
+            var report = parser.parse(withoutCategories, List.of(), builder);
+
+            assertThat(report).hasSize(2);
+            assertThat(report.get()).extracting(Issue::getCategory)
+                    .containsExactlyElementsOf(parser.parse(createReaderFactory("spotbugsXml.xml"), List.of(), builder)
+                            .stream().map(Issue::getCategory).toList())
+                    .doesNotContain("");
+        }
+    }
+
+    private String readString(final String fileName) throws IOException {
+        try (var stream = read(fileName)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void shouldResolveSourceFilesInSourceFolders(@TempDir final Path workspace) throws IOException {
+        var sourceFolder = workspace.resolve("src/main/java");
+        var sourceFile = sourceFolder.resolve("edu/hm/hafner/analysis/IssuesTest.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, "class IssuesTest {}");
+
+        try (var builder = new IssueBuilder()) {
+            var report = new FindBugsParser(CONFIDENCE).parse(createReaderFactory("spotbugsXml.xml"),
+                    List.of(sourceFolder.toString(), workspace.resolve("src/test/java").toString()), builder);
+
+            assertThat(report).hasSize(2);
+            assertThat(report.get(0).getFileName()).endsWith("src/main/java/edu/hm/hafner/analysis/IssuesTest.java");
+            assertThat(report.get(0).getLocations()).hasSize(1);
+            assertThat(report.get(1).getFileName()).isEqualTo(report.get(0).getFileName());
+        }
+    }
+
+    private List<Object> getProperties(final Issue issue) {
+        return List.of(issue.getFileName(), issue.getLocations(), issue.getCategory(), issue.getType(),
+                issue.getSeverity(), issue.getMessage(), issue.getPackageName(), issue.getModuleName(),
+                issue.getFingerprint());
+    }
+
     /**
      * Verifies that third party categories are correctly parsed.
      */
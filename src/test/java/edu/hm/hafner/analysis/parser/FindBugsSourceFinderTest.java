@@ -0,0 +1,76 @@
+package edu.hm.hafner.analysis.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.umd.cs.findbugs.Project;
+import edu.umd.cs.findbugs.SourceLineAnnotation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.Assumptions.*;
+
+/**
+ * Tests the class {@link FindBugsSourceFinder}.
+ */
+class FindBugsSourceFinderTest {
+    @Test
+    void shouldResolveUnknownSourceFilesByClassName(@TempDir final Path workspace) throws IOException {
+        var sources = createSources(workspace.resolve("src"));
+
+        try (var sourceFinder = new FindBugsSourceFinder(createProject(sources))) {
+            assertThat(sourceFinder.findSourceFile(createUnknownSourceLine("edu.hm.First")))
+                    .endsWith("First.java");
+            assertThat(sourceFinder.findSourceFile(createUnknownSourceLine("edu.hm.Second$Inner")))
+                    .endsWith("Second.java");
+            assertThat(sourceFinder.findSourceFile(createUnknownSourceLine("edu.hm.Missing")))
+                    .isEqualTo("edu/hm/" + SourceLineAnnotation.UNKNOWN_SOURCE_FILE);
+            assertThat(sourceFinder.findSourceFile(createSourceLine("edu.hm.First", "First.java")))
+                    .endsWith("First.java").startsWith(sources.toString());
+            assertThat(sourceFinder.findSourceFile(createSourceLine("edu.hm.Missing", "Missing.java")))
+                    .isEqualTo("edu/hm/Missing.java");
+        }
+    }
+
+    @Test
+    void shouldIndexSymbolicLinks(@TempDir final Path workspace) throws IOException {
+        var sources = createSources(workspace.resolve("real"));
+        var root = Files.createDirectory(workspace.resolve("src"));
+        try {
+            Files.createSymbolicLink(root.resolve("edu"), sources.resolve("edu"));
+        }
+        catch (UnsupportedOperationException | IOException exception) {
+            assumeThat(exception).as("Symbolic links are not supported").isNull();
+        }
+
+        try (var sourceFinder = new FindBugsSourceFinder(createProject(root))) {
+            assertThat(sourceFinder.findSourceFile(createSourceLine("edu.hm.First", "First.java")))
+                    .startsWith(root.toString()).endsWith("First.java");
+        }
+    }
+
+    private Path createSources(final Path folder) throws IOException {
+        var packageFolder = Files.createDirectories(folder.resolve("edu/hm"));
+        Files.writeString(packageFolder.resolve("First.java"), "class First {}");
+        Files.writeString(packageFolder.resolve("Second.java"), "class Second {}");
+        return folder;
+    }
+
+    private Project createProject(final Path sources) {
+        var project = new Project();
+        project.addSourceDirs(List.of(sources.toAbsolutePath().toString()));
+        return project;
+    }
+
+    private SourceLineAnnotation createUnknownSourceLine(final String className) {
+        return createSourceLine(className, SourceLineAnnotation.UNKNOWN_SOURCE_FILE);
+    }
+
+    private SourceLineAnnotation createSourceLine(final String className, final String sourceFile) {
+        return new SourceLineAnnotation(className, sourceFile, 1, 2, 0, 10);
+    }
+}
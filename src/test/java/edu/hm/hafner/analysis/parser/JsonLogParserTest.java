@@ -1,9 +1,17 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
@@ -102,6 +110,38 @@ class JsonLogParserTest extends AbstractParserTest {
         assertThat(report).hasSize(0);
     }
 
+    @Test
+    void shouldCreateSameReportInParallel(@TempDir final Path workspace) throws IOException {
+        var log = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 1000 == 999) {
+                log.append("{\"fileName\":\"invalid.txt\",\"fileName\":\"").append(i).append("\"}\n");
+            }
+            else if (i % 100 == 0) {
+                log.append("# comment ").append(i).append('\n');
+            }
+            log.append(String.format("{\"fileName\":\"file-%d.txt\",\"lineStart\":%d,\"message\":\"message %d\"}%n",
+                    i % 500, i % 7, i % 50));
+        }
+        var file = Files.writeString(workspace.resolve("issues.log"), log, StandardCharsets.UTF_8);
+        var readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+
+        var sequential = createParser().parse(readerFactory);
+        var parallel = createParser().setParallelism(4).parse(readerFactory);
+
+        assertThat(parallel).hasSize(sequential.size());
+        assertThat(parallel.getDuplicatesSize()).isEqualTo(sequential.getDuplicatesSize()).isPositive();
+        assertThat(getParsingErrors(parallel)).isEqualTo(getParsingErrors(sequential)).hasSize(10);
+        assertThat(parallel.get()).extracting(Issue::toString)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::toString).toList());
+    }
+
+    private List<String> getParsingErrors(final Report report) {
+        return report.getErrorMessages().stream()
+                .filter(message -> message.startsWith("Could not parse line"))
+                .toList();
+    }
+
     @Override
     protected JsonLogParser createParser() {
         return new JsonLogParser();
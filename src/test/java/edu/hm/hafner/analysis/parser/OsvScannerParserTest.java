@@ -190,6 +190,38 @@ class OsvScannerParserTest extends AbstractParserTest {
         assertThat(report.get(0)).hasFileName("-");
     }
 
+    /** Covers: {@code source} object follows the {@code packages} array of the result. */
+    @Test
+    void shouldUseSourcePathWhenSourceFollowsPackages() {
+        var report = parseStringContent("""
+                {
+                    "results": [
+                        {
+                            "packages": [
+                                {
+                                    "package": { "name": "first", "version": "1.0.0", "ecosystem": "npm" },
+                                    "vulnerabilities": [ { "id": "GHSA-test-0001", "summary": "First" } ]
+                                }
+                            ],
+                            "source": { "path": "first/package-lock.json", "type": "lockfile" }
+                        },
+                        {
+                            "source": { "path": "second/package-lock.json", "type": "lockfile" },
+                            "packages": [
+                                {
+                                    "package": { "name": "second", "version": "2.0.0", "ecosystem": "npm" },
+                                    "vulnerabilities": [ { "id": "GHSA-test-0002", "summary": "Second" } ]
+                                }
+                            ]
+                        }
+                    ]
+                }
+                """);
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0)).hasFileName("first/package-lock.json").hasPackageName("first@1.0.0");
+        assertThat(report.get(1)).hasFileName("second/package-lock.json").hasPackageName("second@2.0.0");
+    }
+
     /** Covers: {@code packageInfo == null} → name = "Unknown", ecosystem = "Unknown". */
     @Test
     void shouldUseUnknownWhenPackageObjectAbsent() {
@@ -1,10 +1,23 @@
 package edu.hm.hafner.analysis.parser;
 
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 import edu.hm.hafner.analysis.registry.AbstractParserTest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
 /**
  * Tests the class {@link Pep8Parser}.
  *
@@ -117,6 +130,33 @@ class Pep8ParserTest extends AbstractParserTest {
                 .hasColumnEnd(21);
     }
 
+    @ParameterizedTest(name = "{index} => with directory changes: {0}")
+    @ValueSource(booleans = {false, true})
+    void shouldCreateSameReportInParallelMode(final boolean hasDirectoryChanges, @TempDir final Path workspace)
+            throws IOException {
+        var log = new StringBuilder();
+        for (int i = 0; i < 60_000; i++) {
+            log.append("src/module%d/file%d.py:%d:1: E401 multiple imports on one line%n".formatted(
+                    i % 7, i % 50, i % 1000));
+            if (hasDirectoryChanges && i == 30_000) {
+                log.append("make[1]: Entering directory '/workspace/src'\n");
+            }
+        }
+        var file = Files.writeString(workspace.resolve("pep8.log"), log, StandardCharsets.UTF_8);
+        var readerFactory = new FileReaderFactory(file, StandardCharsets.UTF_8);
+
+        var sequential = createParser().parse(readerFactory);
+        var parallel = createParser().setParallelism(4).parse(readerFactory);
+
+        assertThat(readerFactory.split(4)).hasSizeGreaterThan(1);
+        assertThat(parallel).hasSize(sequential.size());
+        assertThat(parallel.getDuplicatesSize()).isEqualTo(sequential.getDuplicatesSize()).isPositive();
+        assertThat(parallel.get()).extracting(Issue::getAbsolutePath)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::getAbsolutePath).toList());
+        assertThat(parallel.get()).extracting(Issue::toString)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::toString).toList());
+    }
+
     @Override
     protected Pep8Parser createParser() {
         return new Pep8Parser();
@@ -1,6 +1,8 @@
 package edu.hm.hafner.analysis.parser;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Location;
@@ -136,6 +138,25 @@ class XmlParserTest extends StructuredFileParserTest {
         }
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"/analysisReport/elements/issue[severity='HIGH']",
+            "/analysisReport/elements/./issue[1]", "/analysisReport/elements/issue/../issue[1]"})
+    void shouldEvaluateComplexPathsWithXPath(final String path) {
+        var parser = new XmlParser(path);
+        var report = parser.parseReport(createReaderFactory(ISSUES_CUSTOM_PATH_FILE));
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0)).hasMessage("1").hasSeverity(Severity.WARNING_HIGH);
+    }
+
+    @Test
+    void shouldEvaluateRelativePathsWithXPath() {
+        var parser = new XmlParser("./analysisReport/elements/issue");
+        var report = parser.parseReport(createReaderFactory(ISSUES_CUSTOM_PATH_FILE));
+
+        assertThat(report).hasSize(2);
+    }
+
     @Test
     void shouldAcceptSampleFile() {
         assertThat(createParser().accepts(createReaderFactory(ISSUES_DEFAULT_FILE))).isTrue();
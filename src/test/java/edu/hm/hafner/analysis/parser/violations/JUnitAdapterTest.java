@@ -2,12 +2,21 @@ package edu.hm.hafner.analysis.parser.violations;
 
 import org.junit.jupiter.api.Test;
 
+import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 import edu.hm.hafner.analysis.registry.AbstractParserTest;
 import edu.hm.hafner.util.PathUtil;
 
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import se.bjurr.violations.lib.ViolationsLogger;
+import se.bjurr.violations.lib.model.Violation;
+import se.bjurr.violations.lib.parsers.JUnitParser;
+
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 import static edu.hm.hafner.analysis.parser.violations.JUnitAdapter.*;
 
@@ -115,6 +124,49 @@ class JUnitAdapterTest extends AbstractParserTest {
         assertThat(report).hasSize(1);
     }
 
+    /**
+     * Verifies that reports that cannot be split are passed as a whole to the parser of the library. The parser of the
+     * library rejects these reports as well, so the adapter reports the same error as before splitting.
+     */
+    @Test
+    void shouldParseEmptyReportAsWholeReport() {
+        List<String> parsedContents = new ArrayList<>();
+
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> createRecordingParser(parsedContents).parse(new StringReaderFactory("")));
+        assertThat(parsedContents).containsExactly("");
+    }
+
+    @Test
+    void shouldParseTruncatedReportAsWholeReport() {
+        var testSuite = String.join("\n", readAllLines("junit.xml").subList(1, 118));
+        var truncated = "<testsuites>\n" + testSuite + "\n" + testSuite.substring(0, testSuite.length() / 2);
+        List<String> parsedContents = new ArrayList<>();
+
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> createRecordingParser(parsedContents).parse(new StringReaderFactory(truncated)));
+        assertThat(parsedContents).containsExactly(truncated);
+    }
+
+    private JUnitAdapter createRecordingParser(final List<String> parsedContents) {
+        return new JUnitAdapter() {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            JUnitParser createParser() {
+                return new JUnitParser() {
+                    @Override
+                    public Set<Violation> parseReportOutput(final String content, final ViolationsLogger logger)
+                            throws Exception {
+                        parsedContents.add(content);
+                        return super.parseReportOutput(content, logger);
+                    }
+                };
+            }
+        };
+    }
+
     @Test
     void shouldParseArchitectureTests() {
         var report = parse("TEST-Aufgabe3Test.xml");
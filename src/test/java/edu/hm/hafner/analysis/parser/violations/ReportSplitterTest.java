@@ -0,0 +1,189 @@
+package edu.hm.hafner.analysis.parser.violations;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.registry.AbstractParserTest.StringReaderFactory;
+import edu.hm.hafner.util.ResourceTest;
+import se.bjurr.violations.lib.model.Violation;
+
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportSplitter}.
+ */
+class ReportSplitterTest extends ResourceTest {
+    @Test
+    void shouldSplitXmlReportIntoChunksOfSiblings() {
+        var report = new StringReaderFactory("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <testsuites name="all &amp; more">
+                  <testsuite name="first"><testcase name="one"/></testsuite>
+                  <testsuite name="second"/>
+                  <group><testsuite name="third"/></group>
+                </testsuites>
+                """);
+
+        assertThat(splitXml(report, 1)).containsExactly(
+                "<testsuites name=\"all &amp; more\"><testsuite name=\"first\"><testcase name=\"one\"/></testsuite></testsuites>",
+                "<testsuites name=\"all &amp; more\"><testsuite name=\"second\"/></testsuites>",
+                "<testsuites name=\"all &amp; more\"><group><testsuite name=\"third\"/></group></testsuites>");
+        assertThat(splitXml(report, ReportSplitter.CHUNK_SIZE)).containsExactly(
+                "<testsuites name=\"all &amp; more\"><testsuite name=\"first\"><testcase name=\"one\"/></testsuite><testsuite name=\"second\"/></testsuites>",
+                "<testsuites name=\"all &amp; more\"><group><testsuite name=\"third\"/></group></testsuites>");
+    }
+
+    @Test
+    void shouldSplitJsonReportIntoChunksOfArrayElements() {
+        var report = new StringReaderFactory("""
+                {
+                  "version": "2.1.0",
+                  "runs": [
+                    {"results": [{"ruleId": "a"}, {"ruleId": "b"}], "tool": {"name": "first"}},
+                    {"results": []},
+                    {"tool": {"name": "second"}, "results": [{"ruleId": "c"}]}
+                  ]
+                }
+                """);
+
+        var chunks = List.of(
+                "{\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"name\": \"first\"},\"results\":[{\"ruleId\": \"a\"},{\"ruleId\": \"b\"}]}]}",
+                "{\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"name\": \"second\"},\"results\":[{\"ruleId\": \"c\"}]}]}");
+        assertThat(splitJson(report, 1)).as("Elements are smaller than the enclosing objects")
+                .containsExactlyElementsOf(chunks);
+        assertThat(splitJson(report, ReportSplitter.CHUNK_SIZE)).containsExactlyElementsOf(chunks);
+    }
+
+    @Test
+    void shouldSizeJsonChunksRelativeToEnclosingObjects() {
+        var rules = IntStream.range(0, 1000)
+                .mapToObj(i -> ("{\"id\": \"rule-%d\", "
+                        + "\"shortDescription\": {\"text\": \"Description of rule %d\"}}").formatted(i, i))
+                .collect(Collectors.joining(","));
+        var results = IntStream.range(0, 1000)
+                .mapToObj(i -> ("{\"ruleId\": \"rule-%d\", \"level\": \"warning\", \"message\": {\"text\": \"Message %d\"}, "
+                        + "\"locations\": [{\"physicalLocation\": {\"artifactLocation\": {\"uri\": \"file-%d.c\"}, "
+                        + "\"region\": {\"startLine\": %d}}}]}").formatted(i, i, i, i + 1))
+                .collect(Collectors.joining(","));
+        var json = """
+                {"version": "2.1.0", "runs": [{"tool": {"driver": {"name": "tool", "rules": [%s]}}, "results": [%s]}]}
+                """.formatted(rules, results);
+        var report = new StringReaderFactory(json);
+
+        var chunks = splitJson(report, 1);
+
+        assertThat(chunks).hasSizeBetween(2, 3);
+        assertThat(chunks.stream().mapToInt(String::length).sum()).isLessThanOrEqualTo(2 * json.length());
+
+        var adapter = new SarifAdapter();
+        var actual = new Report();
+        for (String chunk : chunks) {
+            actual.addAll(adapter.parse(new StringReaderFactory(chunk)).get());
+        }
+        assertThat(actual).hasSize(1000);
+        assertThat(actual.get()).containsExactlyInAnyOrderElementsOf(adapter.parse(report).get());
+    }
+
+    @Test
+    void shouldKeepLogMessagesOfAllChunks() {
+        var adapter = new SarifAdapter() {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            Report convertToReport(final Set<Violation> violations) {
+                var report = super.convertToReport(violations);
+                report.logError("Chunk with %d violations", violations.size());
+                return report;
+            }
+
+            @Override
+            void readChunks(final ReaderFactory readerFactory, final Consumer<String> consumer) {
+                var chunk = readerFactory.readString();
+                consumer.accept(chunk);
+                consumer.accept(chunk);
+            }
+        };
+
+        var report = adapter.parse(new FileReaderFactory(getResourceAsFile("sarif.json"), StandardCharsets.UTF_8));
+
+        assertThat(report).hasSize(2);
+        assertThat(report.getErrorMessages()).containsExactly(
+                "Chunk with 2 violations", "Chunk with 2 violations");
+    }
+
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"junit.xml", "report.junit", "TEST-Aufgabe3Test.xml"})
+    void shouldCreateSameIssuesForJUnitChunks(final String fileName) {
+        assertThatChunksCreateSameIssues(new JUnitAdapter(), fileName,
+                (readerFactory, consumer) -> ReportSplitter.splitXml(readerFactory, 1, consumer, "testsuite"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"cppcheck.xml", "cpp-check-2.xml", "issue55733.xml", "issue64519.xml"})
+    void shouldCreateSameIssuesForCppCheckChunks(final String fileName) {
+        assertThatChunksCreateSameIssues(new CppCheckAdapter(), fileName,
+                (readerFactory, consumer) -> ReportSplitter.splitXml(readerFactory, 1, consumer,
+                        "/results/errors/error", "/results/error"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"sarif.json", "security-scan.sarif", "suppressed-sarif.json"})
+    void shouldCreateSameIssuesForSarifChunks(final String fileName) {
+        assertThatChunksCreateSameIssues(new SarifAdapter(), fileName,
+                (readerFactory, consumer) -> ReportSplitter.splitJson(readerFactory, "runs/results", 1, consumer));
+    }
+
+    @Test
+    void shouldCreateSameIssuesForCoverityChunks() {
+        assertThatChunksCreateSameIssues(new CoverityAdapter(), "coverity.json",
+                (readerFactory, consumer) -> ReportSplitter.splitJson(readerFactory, "issues", 1, consumer));
+    }
+
+    private void assertThatChunksCreateSameIssues(final AbstractViolationAdapter adapter, final String fileName,
+            final Splitter splitter) {
+        var readerFactory = new FileReaderFactory(getResourceAsFile(fileName), StandardCharsets.UTF_8);
+        var expected = adapter.parse(readerFactory);
+
+        List<String> chunks = new ArrayList<>();
+        splitter.split(readerFactory, chunks::add);
+        var actual = new Report();
+        for (String chunk : chunks) {
+            actual.addAll(adapter.parse(new StringReaderFactory(chunk)).get());
+        }
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual.get()).containsExactlyInAnyOrderElementsOf(expected.get());
+    }
+
+    private List<String> splitXml(final ReaderFactory readerFactory, final int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        ReportSplitter.splitXml(readerFactory, chunkSize, chunks::add, "testsuite");
+        return chunks;
+    }
+
+    private List<String> splitJson(final ReaderFactory readerFactory, final int chunkSize) {
+        List<String> chunks = new ArrayList<>();
+        ReportSplitter.splitJson(readerFactory, "runs/results", chunkSize, chunks::add);
+        return chunks;
+    }
+
+    @FunctionalInterface
+    private interface Splitter {
+        void split(ReaderFactory readerFactory, Consumer<String> consumer);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.hm.hafner.analysis.registry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.util.ResourceTest;
+
+import java.util.NoSuchElementException;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ConsoleLogScanner}.
+ */
+class ConsoleLogScannerTest extends ResourceTest {
+    private static final String[] TOOLS = {"gcc", "java", "eclipse", "msbuild", "clang", "maven-warnings",
+            "error-prone", "clang-tidy", "gcc3"};
+
+    @ParameterizedTest(name = "{index} => file={0}")
+    @ValueSource(strings = {"gcc4.txt", "gcc.txt", "javac.txt", "eclipse.txt", "msbuild.txt",
+            "errorprone-maven.log", "gcc-clang-tidy-mixed.txt"})
+    void shouldCreateSameReportsAsIndividualParsers(final String fileName) {
+        var readerFactory = createReaderFactory(fileName);
+
+        var reports = new ConsoleLogScanner(TOOLS).scan(readerFactory);
+
+        assertThat(reports).containsOnlyKeys(TOOLS);
+        var registry = new ParserRegistry();
+        for (String tool : TOOLS) {
+            var expected = registry.get(tool).createParser().parse(readerFactory);
+            var actual = reports.get(tool);
+
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual.getName()).isEqualTo(expected.getName());
+            assertThat(actual.get()).as("Parser %s", tool).extracting(Issue::toString)
+                    .containsExactlyElementsOf(expected.get().stream().map(Issue::toString).toList());
+            assertThat(actual.get()).as("Parser %s", tool).extracting(Issue::getOrigin)
+                    .containsExactlyElementsOf(expected.get().stream().map(Issue::getOrigin).toList());
+        }
+    }
+
+    @Test
+    void shouldFindIssuesOfEachTool() {
+        var readerFactory = createReaderFactory("gcc4.txt");
+
+        var reports = new ConsoleLogScanner("gcc", "java", "gcc").scan(readerFactory);
+
+        assertThat(reports).containsOnlyKeys("gcc", "java");
+        assertThat(reports.get("gcc")).isNotEmpty()
+                .hasSize(new ParserRegistry().get("gcc").createParser().parse(readerFactory).size());
+    }
+
+    @Test
+    void shouldRejectUnknownTools() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> new ConsoleLogScanner("gcc", "unknown-tool"))
+                .withMessageContaining("unknown-tool");
+    }
+
+    private ReaderFactory createReaderFactory(final String fileName) {
+        return new FileReaderFactory(getResourceAsFile("../parser/").resolve(fileName));
+    }
+}